@@ -0,0 +1,66 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.smarttask.smarttask_backend.SmarttaskBackendApplication;
+import com.smarttask.smarttask_backend.entity.User;
+import com.smarttask.smarttask_backend.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * WHY: Database-backed benchmarks boot the real application against a local Postgres.
+ * The profile defaults to "dev"; override with -Dbench.profile=... and spring.datasource.* system properties.
+ * SQL logging is switched off so it does not dominate the measurements.
+ */
+final class BenchmarkApp {
+
+    private BenchmarkApp() {}
+
+    /** @param overrides extra "--name=value" arguments, e.g. to switch a feature off for a baseline run */
+    static ConfigurableApplicationContext start(String... overrides) {
+        var args = Stream.concat(Stream.of("--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.com.smarttask=INFO"),
+                Stream.of(overrides));
+        return new SpringApplicationBuilder(SmarttaskBackendApplication.class)
+                .profiles(System.getProperty("bench.profile", "dev"))
+                // Command-line arguments, not builder properties: those are defaults and lose to the profile.
+                .run(args.toArray(String[]::new));
+    }
+
+    /** Short hash of the checked-out commit (with "-dirty" for local changes), used to label result files. */
+    static String gitCommit() {
+        try {
+            Process git = new ProcessBuilder("git", "describe", "--always", "--dirty").redirectErrorStream(true).start();
+            String out = new String(git.getInputStream().readAllBytes()).trim();
+            return git.waitFor() == 0 && !out.isEmpty() ? out : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    /** Creates a throwaway user that owns all rows written by a benchmark trial. */
+    static UUID createUser(ConfigurableApplicationContext ctx) {
+        String name = "bench-" + UUID.randomUUID();
+        var user = ctx.getBean(UserRepository.class).save(User.builder()
+                .username(name)
+                .email(name + "@bench.local")
+                .password("n/a")
+                .role("USER")
+                .build());
+        return user.getId();
+    }
+
+    /** Removes the user; tasks and refresh tokens go with it through ON DELETE CASCADE. */
+    static void deleteUser(ConfigurableApplicationContext ctx, UUID userId) {
+        ctx.getBean(JdbcTemplate.class).update("DELETE FROM users WHERE id = ?", userId);
+    }
+}
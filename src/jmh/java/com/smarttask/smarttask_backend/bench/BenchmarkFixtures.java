@@ -0,0 +1,88 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.smarttask.smarttask_backend.entity.Task;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.entity.User;
+import com.smarttask.smarttask_backend.security.JwtService;
+import com.smarttask.smarttask_backend.security.SigningKey;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * WHY: In-memory fixtures for benchmarks that do not need the database or a Spring context.
+ * Values mirror the application.yaml defaults (issuer, token lifetimes).
+ */
+final class BenchmarkFixtures {
+
+    static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    private BenchmarkFixtures() {}
+
+    static JwtService jwtService(long verifiedCacheSize) {
+        return new JwtService(SECRET, "smarttask", 15, 7, verifiedCacheSize, true);
+    }
+
+    /** HS256 as configured by default, or one in-memory ES256 / EdDSA key as JwtKeyRotation would load it. */
+    static JwtService jwtService(long verifiedCacheSize, String algorithm) throws GeneralSecurityException {
+        JwtService service = jwtService(verifiedCacheSize);
+        SignatureAlgorithm alg = switch (algorithm) {
+            case "HS256" -> null;
+            case "ES256" -> Jwts.SIG.ES256;
+            case "EdDSA" -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalArgumentException(algorithm);
+        };
+        if (alg != null) {
+            KeyPair pair = alg == Jwts.SIG.ES256
+                    ? Jwts.SIG.ES256.keyPair().build()
+                    : KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            String kid = Jwks.builder().key(pair.getPublic()).idFromThumbprint().build().getId();
+            service.useKeys(List.of(new SigningKey(kid, alg, pair.getPublic(), pair.getPrivate(), Instant.EPOCH)));
+        }
+        return service;
+    }
+
+    static User user() {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .username("bench-user")
+                .email("bench-user@bench.local")
+                .password("n/a")
+                .role("USER")
+                .enabled(true)
+                .build();
+    }
+
+    /** Claims exactly as AuthService puts them into an access token. */
+    static Map<String, Object> claims(User user) {
+        return Map.of("role", user.getRole(), "uid", user.getId().toString());
+    }
+
+    static List<Task> tasks(User owner, int count) {
+        Instant now = Instant.now();
+        return IntStream.range(0, count)
+                .mapToObj(i -> Task.builder()
+                        .id(UUID.randomUUID())
+                        .user(owner)
+                        .title("Task " + i)
+                        .description("Lorem ipsum dolor sit amet, consectetur adipiscing elit.")
+                        .status(i % 3 == 0 ? TaskStatus.DONE : TaskStatus.TODO)
+                        .dueDate(OffsetDateTime.of(2026, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC).plusDays(i % 30))
+                        .createdAt(now.minusSeconds(i))
+                        .updatedAt(now)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,66 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.smarttask.smarttask_backend.entity.User;
+import com.smarttask.smarttask_backend.repository.UserRepository;
+import com.smarttask.smarttask_backend.security.JwtAuthFilter;
+import com.smarttask.smarttask_backend.security.JwtService;
+import com.smarttask.smarttask_backend.security.PrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * One authenticated request through JwtAuthFilter with a mocked chain and user repository.
+ * verifiedCacheSize=0 forces a signature check per request; 10000 is the configured default.
+ * The principal comes from PrincipalCache, so the repository is only hit on the first call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+    @Param({"0", "10000"})
+    public long verifiedCacheSize;
+
+    private JwtAuthFilter filter;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtService jwtService = BenchmarkFixtures.jwtService(verifiedCacheSize);
+        User user = BenchmarkFixtures.user();
+        UserRepository userRepo = mock(UserRepository.class);
+        when(userRepo.findById(user.getId())).thenReturn(Optional.of(user));
+
+        var registry = new SimpleMeterRegistry();
+        filter = new JwtAuthFilter(jwtService, new PrincipalCache(userRepo, registry, 10_000, 60), registry);
+        ReflectionTestUtils.setField(filter, "swaggerUsername", "swagger-admin");
+        authorization = "Bearer " + jwtService.generateAccessToken(user.getUsername(), BenchmarkFixtures.claims(user));
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setServletPath("/api/tasks");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.smarttask.smarttask_backend.entity.User;
+import com.smarttask.smarttask_backend.security.JwtService;
+import com.smarttask.smarttask_backend.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification cost per call, for each signing algorithm (security.jwt.algorithm):
+ * - generateAccessToken: claims + signature, as done on every login and refresh
+ * - getClaims: full parse and signature check (key found by kid for ES256 / EdDSA)
+ * - verifyCached: JwtAuthFilter's path once the token sits in the verified-token cache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private JwtService jwtService;
+    private String subject;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GeneralSecurityException {
+        jwtService = BenchmarkFixtures.jwtService(10_000, algorithm);
+        User user = BenchmarkFixtures.user();
+        subject = user.getUsername();
+        claims = BenchmarkFixtures.claims(user);
+        token = jwtService.generateAccessToken(subject, claims);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(subject, claims);
+    }
+
+    @Benchmark
+    public Claims getClaims() {
+        return jwtService.getClaims(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return jwtService.verify(token);
+    }
+}
@@ -0,0 +1,136 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency (HdrHistogram, microseconds, 3 significant digits) and error counts of a load test,
+ * written as JSON so runs from different commits can be compared with LoadTest --compare.
+ * Throughput is count / time spent in the phases in which the endpoint was called.
+ */
+final class LoadReport {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private static final class Endpoint {
+        final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        volatile boolean calledInPhase;
+        long activeNanos;
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private long phaseStarted;
+
+    void startPhase() {
+        endpoints.values().forEach(e -> e.calledInPhase = false);
+        phaseStarted = System.nanoTime();
+    }
+
+    void endPhase() {
+        long elapsed = System.nanoTime() - phaseStarted;
+        endpoints.values().stream().filter(e -> e.calledInPhase).forEach(e -> e.activeNanos += elapsed);
+    }
+
+    void record(String endpoint, long latencyNanos, boolean ok) {
+        var e = endpoints.computeIfAbsent(endpoint, k -> new Endpoint());
+        e.calledInPhase = true;
+        e.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+        if (!ok) {
+            e.errors.increment();
+        }
+    }
+
+    void print() {
+        System.out.printf("%n%-12s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        new TreeMap<>(endpoints).forEach((name, e) -> {
+            Histogram h = e.latency;
+            System.out.printf("%-12s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, h.getTotalCount(), e.errors.sum(), throughput(e),
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+        });
+    }
+
+    void write(Path file, Map<String, Object> meta) throws IOException {
+        ObjectNode root = JSON.valueToTree(meta);
+        ObjectNode out = root.putObject("endpoints");
+        new TreeMap<>(endpoints).forEach((name, e) -> {
+            Histogram h = e.latency;
+            ObjectNode node = out.putObject(name);
+            node.put("count", h.getTotalCount());
+            node.put("errors", e.errors.sum());
+            node.put("throughput", round(throughput(e)));
+            node.put("p50", round(millis(h.getValueAtPercentile(50))));
+            node.put("p90", round(millis(h.getValueAtPercentile(90))));
+            node.put("p99", round(millis(h.getValueAtPercentile(99))));
+            node.put("p999", round(millis(h.getValueAtPercentile(99.9))));
+            node.put("max", round(millis(h.getMaxValue())));
+            // Full distribution, for merging runs or plotting with HdrHistogram tools.
+            ByteBuffer buffer = ByteBuffer.allocate(h.getNeededByteBufferCapacity());
+            int length = h.encodeIntoCompressedByteBuffer(buffer);
+            node.put("histogram", Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+        });
+        Files.createDirectories(file.getParent());
+        JSON.writeValue(file.toFile(), root);
+    }
+
+    /** Prints p50 / p99 / p999 and throughput of two result files side by side, with the relative change. */
+    static void compare(Path before, Path after) throws IOException {
+        JsonNode a = JSON.readTree(before.toFile());
+        JsonNode b = JSON.readTree(after.toFile());
+        System.out.printf("before: %s (%s)%nafter:  %s (%s)%n",
+                before.getFileName(), a.path("commit").asText(), after.getFileName(), b.path("commit").asText());
+        System.out.printf("%n%-12s %-30s %-30s %-30s %-26s%n", "endpoint", "p50 ms", "p99 ms", "p999 ms", "req/s");
+        var names = new TreeSet<String>();
+        a.path("endpoints").fieldNames().forEachRemaining(names::add);
+        b.path("endpoints").fieldNames().forEachRemaining(names::add);
+        for (String name : names) {
+            JsonNode x = a.path("endpoints").path(name);
+            JsonNode y = b.path("endpoints").path(name);
+            System.out.printf("%-12s %-30s %-30s %-30s %-26s%n", name,
+                    delta(x, y, "p50"), delta(x, y, "p99"), delta(x, y, "p999"), delta(x, y, "throughput"));
+        }
+    }
+
+    private static String delta(JsonNode x, JsonNode y, String field) {
+        if (!x.has(field) || !y.has(field)) {
+            return "-";
+        }
+        double before = x.get(field).asDouble();
+        double after = y.get(field).asDouble();
+        String change = before == 0 ? "" : String.format(" (%+.1f%%)", (after - before) * 100 / before);
+        return String.format("%.2f -> %.2f%s", before, after, change);
+    }
+
+    private static double throughput(Endpoint e) {
+        return e.activeNanos == 0 ? 0 : e.latency.getTotalCount() * 1e9 / e.activeNanos;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,148 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One simulated user of the load test: its credentials, current token pair and the ids of tasks it created.
+ * A session is used by one thread at a time (LoadTest hands sessions out through a queue), so refresh
+ * rotation and update/delete of its own tasks never race with each other.
+ */
+final class LoadSession {
+
+    /** Outcome of one call: the HTTP status, or -1 when no response arrived. */
+    record Result(String endpoint, int status) {
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final URI baseUri;
+    private final String username;
+    private final List<String> taskIds = new ArrayList<>();
+    private String accessToken;
+    private String refreshToken;
+
+    LoadSession(HttpClient http, URI baseUri, String runId, int index) {
+        this.http = http;
+        this.baseUri = baseUri;
+        this.username = "load-" + runId + "-" + index;
+    }
+
+    Result register() {
+        return call("register", post("/api/auth/register", Map.of(
+                "username", username, "email", username + "@load.local", "password", password())), null);
+    }
+
+    Result login() {
+        return call("login", post("/api/auth/login", Map.of("username", username, "password", password())),
+                this::storeTokens);
+    }
+
+    Result refresh() {
+        var request = HttpRequest.newBuilder(uri("/api/auth/refresh?refreshToken="
+                        + URLEncoder.encode(refreshToken, StandardCharsets.UTF_8)))
+                .POST(HttpRequest.BodyPublishers.noBody());
+        return call("refresh", request, this::storeTokens);
+    }
+
+    Result list() {
+        return call("list", authorized(HttpRequest.newBuilder(uri("/api/tasks?limit=50")).GET()), null);
+    }
+
+    Result listByStatus() {
+        return call("list_status", authorized(HttpRequest.newBuilder(uri("/api/tasks?status=TODO&limit=50")).GET()), null);
+    }
+
+    Result create() {
+        var body = Map.of("title", "Load task " + UUID.randomUUID(), "description", "Created by the load test");
+        return call("create", authorized(post("/api/tasks", body)), json -> taskIds.add(json.get("id").asText()));
+    }
+
+    /** Updates one of this session's tasks; creates one first when it has none. */
+    Result update() {
+        if (taskIds.isEmpty()) {
+            return create();
+        }
+        String id = taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+        String status = ThreadLocalRandom.current().nextBoolean() ? "IN_PROGRESS" : "DONE";
+        return call("update", authorized(HttpRequest.newBuilder(uri("/api/tasks/" + id))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"status\":\"" + status + "\"}"))), null);
+    }
+
+    /** Deletes one of this session's tasks; creates one instead when it has none. */
+    Result delete() {
+        if (taskIds.isEmpty()) {
+            return create();
+        }
+        String id = taskIds.remove(ThreadLocalRandom.current().nextInt(taskIds.size()));
+        return call("delete", authorized(HttpRequest.newBuilder(uri("/api/tasks/" + id)).DELETE()), null);
+    }
+
+    private interface BodyHandler {
+        void accept(JsonNode json) throws IOException;
+    }
+
+    private Result call(String endpoint, HttpRequest.Builder request, BodyHandler onSuccess) {
+        try {
+            HttpResponse<String> response = http.send(request.timeout(TIMEOUT).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            var result = new Result(endpoint, response.statusCode());
+            if (result.ok() && onSuccess != null) {
+                onSuccess.accept(JSON.readTree(response.body()));
+            }
+            return result;
+        } catch (IOException e) {
+            return new Result(endpoint, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(endpoint, -1);
+        }
+    }
+
+    private void storeTokens(JsonNode json) {
+        accessToken = json.get("accessToken").asText();
+        refreshToken = json.get("refreshToken").asText();
+    }
+
+    private HttpRequest.Builder post(String path, Map<String, String> body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder request) {
+        return request.header("Authorization", "Bearer " + accessToken);
+    }
+
+    private URI uri(String pathAndQuery) {
+        return baseUri.resolve(pathAndQuery);
+    }
+
+    private String password() {
+        return "load-" + username;
+    }
+}
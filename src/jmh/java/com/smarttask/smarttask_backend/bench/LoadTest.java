@@ -0,0 +1,256 @@
+package com.smarttask.smarttask_backend.bench;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * HTTP load test over java.net.http.HttpClient and virtual threads, for sizing instances.
+ * Boots the app (BenchmarkApp, dev profile, auth rate limits off) unless --base-url points at a running one.
+ * Each simulated user registers and logs in, then runs a weighted mix of list, filtered list, create,
+ * update, delete, refresh rotation and login. A user is used by one request at a time.
+ *
+ *   --users=50          simulated users, i.e. the maximum concurrency
+ *   --rate=0            open model: target requests/s started on schedule, latency measured from the intended
+ *                       start (no coordinated omission); 0 = closed model, each user sends back to back
+ *   --warmup=PT15S --duration=PT60S
+ *   --mix=list=35,list_status=15,create=20,update=15,delete=10,refresh=4,login=1
+ *   --base-url=http://host:8080   (leaves its load-* users behind)
+ *   --out=target/loadtest
+ *   --compare=before.json,after.json   prints the difference between two result files and exits
+ *
+ * Run: mvn -Pbenchmarks test-compile exec:exec@loadtest -Dload.args="--users=100 --rate=300"
+ */
+public final class LoadTest {
+
+    private static final String DEFAULT_MIX = "list=35,list_status=15,create=20,update=15,delete=10,refresh=4,login=1";
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    private static final Map<String, Function<LoadSession, LoadSession.Result>> SCENARIOS = Map.of(
+            "list", LoadSession::list,
+            "list_status", LoadSession::listByStatus,
+            "create", LoadSession::create,
+            "update", LoadSession::update,
+            "delete", LoadSession::delete,
+            "refresh", LoadSession::refresh,
+            "login", LoadSession::login);
+
+    private final LoadReport report = new LoadReport();
+    private final List<Function<LoadSession, LoadSession.Result>> weighted = new ArrayList<>();
+    private final AtomicInteger dropped = new AtomicInteger();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private LoadTest(String mix) {
+        for (String entry : mix.split(",")) {
+            String[] kv = entry.trim().split("=");
+            var scenario = SCENARIOS.get(kv[0]);
+            if (scenario == null) {
+                throw new IllegalArgumentException("Unknown scenario '" + kv[0] + "', expected one of " + SCENARIOS.keySet());
+            }
+            for (int i = Integer.parseInt(kv[1]); i > 0; i--) {
+                weighted.add(scenario);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parse(args);
+        if (opts.containsKey("compare")) {
+            String[] files = opts.get("compare").split(",");
+            LoadReport.compare(Path.of(files[0]), Path.of(files[1]));
+            return;
+        }
+        int users = Integer.parseInt(opts.getOrDefault("users", "50"));
+        int rate = Integer.parseInt(opts.getOrDefault("rate", "0"));
+        Duration warmup = Duration.parse(opts.getOrDefault("warmup", "PT15S"));
+        Duration duration = Duration.parse(opts.getOrDefault("duration", "PT60S"));
+        String mix = opts.getOrDefault("mix", DEFAULT_MIX);
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+
+        ConfigurableApplicationContext ctx = null;
+        String baseUrl = opts.get("base-url");
+        if (baseUrl == null) {
+            ctx = BenchmarkApp.start("--security.rate-limit.enabled=false");
+            baseUrl = "http://localhost:" + ctx.getEnvironment().getProperty("local.server.port");
+        }
+
+        var test = new LoadTest(mix);
+        try (HttpClient http = HttpClient.newBuilder()
+                .executor(test.executor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build()) {
+            var sessions = test.signUp(http, URI.create(baseUrl), runId, users);
+            System.out.printf("%d users ready; warming up for %s%n", sessions.size(), warmup);
+            test.run(sessions, rate, warmup, false);
+            System.out.printf("measuring for %s (%s)%n", duration, rate > 0 ? rate + " req/s" : "closed loop");
+            test.run(sessions, rate, duration, true);
+        } finally {
+            test.executor.shutdownNow();
+            if (ctx != null) {
+                ctx.getBean(JdbcTemplate.class).update("DELETE FROM users WHERE username LIKE ?", "load-" + runId + "-%");
+                ctx.close();
+            }
+        }
+
+        test.report.print();
+        if (test.dropped.get() > 0) {
+            System.out.printf("%d requests not started: more than %d in flight (the app cannot keep up with --rate)%n",
+                    test.dropped.get(), MAX_IN_FLIGHT);
+        }
+        var meta = new LinkedHashMap<String, Object>();
+        meta.put("commit", BenchmarkApp.gitCommit());
+        meta.put("startedAt", Instant.now().toString());
+        meta.put("config", Map.of("users", users, "rate", rate, "warmup", warmup.toString(),
+                "duration", duration.toString(), "mix", mix, "baseUrl", baseUrl));
+        meta.put("dropped", test.dropped.get());
+        Path file = Path.of(opts.getOrDefault("out", "target/loadtest"), "loadtest-"
+                + DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC).format(Instant.now())
+                + "-" + meta.get("commit") + ".json");
+        test.report.write(file, meta);
+        System.out.println("results written to " + file);
+    }
+
+    /** Registers and logs in every user concurrently; these calls are reported as register / login. */
+    private BlockingQueue<LoadSession> signUp(HttpClient http, URI baseUri, String runId, int users) throws Exception {
+        var sessions = new ArrayBlockingQueue<LoadSession>(users);
+        report.startPhase();
+        var futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < users; i++) {
+            var session = new LoadSession(http, baseUri, runId, i);
+            futures.add(executor.submit(() -> {
+                long started = System.nanoTime();
+                var registered = session.register();
+                record(registered, started);
+                if (!registered.ok()) {
+                    throw new IllegalStateException("register failed with status " + registered.status());
+                }
+                started = System.nanoTime();
+                var loggedIn = session.login();
+                record(loggedIn, started);
+                if (!loggedIn.ok()) {
+                    throw new IllegalStateException("login failed with status " + loggedIn.status());
+                }
+                sessions.add(session);
+                return null;
+            }));
+        }
+        for (var future : futures) {
+            future.get();
+        }
+        report.endPhase();
+        return sessions;
+    }
+
+    private void run(BlockingQueue<LoadSession> sessions, int rate, Duration length, boolean measure)
+            throws InterruptedException {
+        if (measure) {
+            report.startPhase();
+        }
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+        var inFlight = new AtomicInteger();
+        if (rate > 0) {
+            long period = TimeUnit.SECONDS.toNanos(1) / rate;
+            for (long i = 0; ; i++) {
+                long intended = start + i * period;
+                if (intended >= end) {
+                    break;
+                }
+                LockSupport.parkNanos(intended - System.nanoTime());
+                if (inFlight.get() >= MAX_IN_FLIGHT) {
+                    dropped.incrementAndGet();
+                    continue;
+                }
+                inFlight.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        runOne(sessions, intended, measure);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        } else {
+            int users = sessions.size();
+            for (int i = 0; i < users; i++) {
+                inFlight.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        while (System.nanoTime() < end) {
+                            runOne(sessions, System.nanoTime(), measure);
+                        }
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        }
+        while (inFlight.get() > 0) {
+            Thread.sleep(10);
+        }
+        if (measure) {
+            report.endPhase();
+        }
+    }
+
+    /** Waits for a free user (that wait counts as latency in the open model), runs one scenario, returns the user. */
+    private void runOne(BlockingQueue<LoadSession> sessions, long intendedStart, boolean measure) {
+        LoadSession session;
+        try {
+            session = sessions.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            var result = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size())).apply(session);
+            if (measure) {
+                record(result, intendedStart);
+            }
+            if (result.status() == 401 || result.status() == 403) {
+                session.login();   // access token expired during a long run
+            }
+        } finally {
+            sessions.add(session);
+        }
+    }
+
+    private void record(LoadSession.Result result, long started) {
+        report.record(result.endpoint(), System.nanoTime() - started, result.ok());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        var opts = new HashMap<String, String>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            opts.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return opts;
+    }
+}
@@ -0,0 +1,74 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.smarttask.smarttask_backend.dto.TaskCreateRequest;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.repository.UserRepository;
+import com.smarttask.smarttask_backend.security.JwtService;
+import com.smarttask.smarttask_backend.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Per-request cost of the metrics added for Prometheus: one authenticated GET /api/tasks?status=TODO&limit=20
+ * through the full filter chain (MockMvc, no socket) with instrumentation on and off.
+ * "off" disables meters, observations and Hibernate statistics by configuration; the @Timed advice and the
+ * query-count filter still run but only touch no-op meters, so the difference is the recording cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestMetricsBenchmark {
+
+    @Param({"true", "false"})
+    public boolean instrumented;
+
+    private ConfigurableApplicationContext ctx;
+    private MockMvc mvc;
+    private UUID userId;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = instrumented
+                ? BenchmarkApp.start()
+                : BenchmarkApp.start("--management.metrics.enable.all=false",
+                        "--management.observations.enable.all=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false");
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) ctx).apply(springSecurity()).build();
+
+        userId = BenchmarkApp.createUser(ctx);
+        var user = ctx.getBean(UserRepository.class).findById(userId).orElseThrow();
+        authorization = "Bearer " + ctx.getBean(JwtService.class).generateAccessToken(user.getUsername(),
+                Map.of("role", user.getRole(), "uid", userId.toString()));
+        ctx.getBean(TaskService.class).createBatch(userId, IntStream.range(0, 50)
+                .mapToObj(i -> new TaskCreateRequest("Task " + i, "Description " + i, null, TaskStatus.TODO, null))
+                .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkApp.deleteUser(ctx, userId);
+        ctx.close();
+    }
+
+    @Benchmark
+    public int listTasks() throws Exception {
+        return mvc.perform(get("/api/tasks").param("status", "TODO").param("limit", "20")
+                        .header("Authorization", authorization))
+                .andReturn().getResponse().getStatus();
+    }
+}
@@ -0,0 +1,73 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.smarttask.smarttask_backend.dto.TaskBatchResponse;
+import com.smarttask.smarttask_backend.dto.TaskCreateRequest;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 1,000 single TaskService.create calls (one transaction and one INSERT each)
+ * versus one TaskService.createBatch of 1,000 (one transaction, JDBC-batched INSERTs).
+ * Needs the database configured for the benchmark profile (see BenchmarkApp).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TaskBatchCreateBenchmark {
+
+    private static final int TASKS = 1_000;
+
+    private ConfigurableApplicationContext ctx;
+    private TaskService taskService;
+    private JdbcTemplate jdbc;
+    private UUID userId;
+    private List<TaskCreateRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkApp.start();
+        taskService = ctx.getBean(TaskService.class);
+        jdbc = ctx.getBean(JdbcTemplate.class);
+        userId = BenchmarkApp.createUser(ctx);
+        requests = IntStream.range(0, TASKS)
+                .mapToObj(i -> new TaskCreateRequest("Task " + i, "Imported task number " + i, null, TaskStatus.TODO, null))
+                .toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTasks() {
+        jdbc.update("DELETE FROM tasks WHERE user_id = ?", userId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkApp.deleteUser(ctx, userId);
+        ctx.close();
+    }
+
+    @Benchmark
+    public int singleCreates() {
+        int created = 0;
+        for (TaskCreateRequest req : requests) {
+            taskService.create(userId, req);
+            created++;
+        }
+        return created;
+    }
+
+    @Benchmark
+    public TaskBatchResponse batchCreate() {
+        return taskService.createBatch(userId, requests);
+    }
+}
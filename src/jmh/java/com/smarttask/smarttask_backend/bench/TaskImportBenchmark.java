@@ -0,0 +1,108 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.smarttask.smarttask_backend.dto.TaskCreateRequest;
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.dto.TaskImportResponse;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.service.TaskImportService;
+import com.smarttask.smarttask_backend.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Import throughput in rows/s (the score; one operation = one row): a 50,000-row upload through
+ * TaskImportService (parse, COPY into staging, one INSERT ... SELECT) as CSV and as NDJSON, against the
+ * same rows as TaskService.createBatch calls of 1,000 (JDBC-batched INSERTs, requests already parsed).
+ * Needs the database configured for the benchmark profile (see BenchmarkApp).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(TaskImportBenchmark.ROWS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class TaskImportBenchmark {
+
+    static final int ROWS = 50_000;
+    private static final int BATCH = 1_000;   // tasks.batch.max-size
+
+    private ConfigurableApplicationContext ctx;
+    private TaskImportService importService;
+    private TaskService taskService;
+    private JdbcTemplate jdbc;
+    private UUID userId;
+    private List<TaskCreateRequest> requests;
+    private byte[] csv;
+    private byte[] ndjson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkApp.start();
+        importService = ctx.getBean(TaskImportService.class);
+        taskService = ctx.getBean(TaskService.class);
+        jdbc = ctx.getBean(JdbcTemplate.class);
+        userId = BenchmarkApp.createUser(ctx);
+
+        var due = OffsetDateTime.of(2030, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        var statuses = TaskStatus.values();
+        requests = IntStream.range(0, ROWS)
+                .mapToObj(i -> new TaskCreateRequest("Imported task " + i, "Line " + i + " of the import, with, commas",
+                        i % 3 == 0 ? due.plusHours(i) : null, statuses[i % statuses.length], null))
+                .toList();
+
+        var csvText = new StringBuilder("title,description,status,dueDate\r\n");
+        var ndjsonText = new StringBuilder();
+        for (var r : requests) {
+            String dueDate = r.dueDate() == null ? "" : r.dueDate().toString();
+            csvText.append(r.title()).append(",\"").append(r.description()).append("\",")
+                    .append(r.status()).append(',').append(dueDate).append("\r\n");
+            ndjsonText.append("{\"title\":\"").append(r.title()).append("\",\"description\":\"").append(r.description())
+                    .append("\",\"status\":\"").append(r.status()).append('"')
+                    .append(r.dueDate() == null ? "" : ",\"dueDate\":\"" + dueDate + '"').append("}\n");
+        }
+        csv = csvText.toString().getBytes(StandardCharsets.UTF_8);
+        ndjson = ndjsonText.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearTasks() {
+        jdbc.update("DELETE FROM tasks WHERE user_id = ?", userId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkApp.deleteUser(ctx, userId);   // imports and their errors go with it
+        ctx.close();
+    }
+
+    @Benchmark
+    public TaskImportResponse copyCsv() throws IOException {
+        return importService.importTasks(userId, TaskExportFormat.CSV, new ByteArrayInputStream(csv));
+    }
+
+    @Benchmark
+    public TaskImportResponse copyNdjson() throws IOException {
+        return importService.importTasks(userId, TaskExportFormat.NDJSON, new ByteArrayInputStream(ndjson));
+    }
+
+    @Benchmark
+    public int batchCreate() {
+        int created = 0;
+        for (int i = 0; i < ROWS; i += BATCH) {
+            created += taskService.createBatch(userId, requests.subList(i, i + BATCH)).created();
+        }
+        return created;
+    }
+}
@@ -0,0 +1,78 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.smarttask.smarttask_backend.dto.TaskCreateRequest;
+import com.smarttask.smarttask_backend.dto.TaskResponse;
+import com.smarttask.smarttask_backend.entity.Task;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.repository.TaskRepository;
+import com.smarttask.smarttask_backend.service.TaskService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Heap allocated per 1,000-task list read:
+ * - entities: the previous path, managed Task entities copied into TaskResponse
+ * - projection: JPQL constructor expression into TaskView, all fields
+ * - projectionSparse: same, without the TEXT description column (?fields=id,title,status,dueDate)
+ * Run with "-prof gc" and compare gc.alloc.rate.norm (bytes/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskListAllocationBenchmark {
+
+    private static final int TASKS = 1_000;
+    private static final String DESCRIPTION = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(8);
+
+    private ConfigurableApplicationContext ctx;
+    private TaskRepository taskRepo;
+    private EntityManager em;
+    private UUID userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkApp.start();
+        taskRepo = ctx.getBean(TaskRepository.class);
+        em = ctx.getBean(EntityManager.class);
+        userId = BenchmarkApp.createUser(ctx);
+        ctx.getBean(TaskService.class).createBatch(userId, IntStream.range(0, TASKS)
+                .mapToObj(i -> new TaskCreateRequest("Task " + i, DESCRIPTION, null, TaskStatus.TODO, null))
+                .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkApp.deleteUser(ctx, userId);
+        ctx.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> entities() {
+        return em.createQuery("select t from Task t where t.user.id = :userId order by t.createdAt desc, t.id asc", Task.class)
+                .setParameter("userId", userId)
+                .setMaxResults(TASKS)
+                .getResultList()
+                .stream()
+                .map(TaskResponse::from)
+                .toList();
+    }
+
+    @Benchmark
+    public List<TaskResponse> projection() {
+        return taskRepo.findPage(userId, null, null, null, true, TASKS).stream().map(TaskResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<TaskResponse> projectionSparse() {
+        return taskRepo.findPage(userId, null, null, null, false, TASKS).stream().map(TaskResponse::from).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.smarttask.smarttask_backend.dto.TaskFields;
+import com.smarttask.smarttask_backend.dto.TaskResponse;
+import com.smarttask.smarttask_backend.entity.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response shaping for task lists of 10 / 1k / 50k elements:
+ * - toResponse: Task entity -> TaskResponse mapping used by TaskService
+ * - serialize: Jackson writing List<TaskResponse> with the same filter setup as JacksonConfig,
+ *   into a discarding stream so buffer growth does not skew the result
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskResponseBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int size;
+
+    private List<Task> tasks;
+    private List<TaskResponse> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tasks = BenchmarkFixtures.tasks(BenchmarkFixtures.user(), size);
+        responses = tasks.stream().map(TaskResponse::from).toList();
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .filters(new SimpleFilterProvider()
+                        .addFilter(TaskFields.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()))
+                .build();
+    }
+
+    @Benchmark
+    public List<TaskResponse> toResponse() {
+        return tasks.stream().map(TaskResponse::from).toList();
+    }
+
+    @Benchmark
+    public void serialize() throws Exception {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), responses);
+    }
+}
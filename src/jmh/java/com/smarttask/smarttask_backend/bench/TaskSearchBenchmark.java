@@ -0,0 +1,118 @@
+package com.smarttask.smarttask_backend.bench;
+
+import com.smarttask.smarttask_backend.dto.TaskCreateRequest;
+import com.smarttask.smarttask_backend.dto.TaskPageResponse;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * First-page latency of TaskService.search for one user with 2,000 tasks while the rest of the
+ * table grows (totalTasks, spread over 1,000 background users with the same vocabulary).
+ * With idx_tasks_user_search the cost should track the user's own matches, not the table size.
+ *
+ * Background rows are seeded once with generate_series and kept between runs (each param only
+ * adds or removes the difference). Remove them with: DELETE FROM users WHERE username LIKE 'bench-search-bg-%'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    private static final int USER_TASKS = 2_000;
+    private static final int BACKGROUND_USERS = 1_000;
+    private static final String[] WORDS = {
+            "invoice", "report", "meeting", "call", "email", "review", "budget", "deploy", "release", "client",
+            "design", "draft", "update", "plan", "order", "payment", "contract", "schedule", "backup", "server",
+            "groceries", "dentist", "gym", "laundry", "rent", "insurance", "tax", "flight", "hotel", "birthday",
+            "kitchen", "garden", "car", "school", "doctor", "bank", "presentation", "slides", "feedback", "hiring"};
+    private static final List<String> QUERIES = List.of("invoice", "budget review", "\"client meeting\"", "tax -rent");
+
+    @Param({"100000", "1000000", "3000000"})
+    public int totalTasks;
+
+    private ConfigurableApplicationContext ctx;
+    private TaskService taskService;
+    private UUID userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = BenchmarkApp.start();
+        taskService = ctx.getBean(TaskService.class);
+        seedBackground(ctx.getBean(JdbcTemplate.class));
+
+        userId = BenchmarkApp.createUser(ctx);
+        for (int i = 0; i < USER_TASKS; i += 1_000) {   // tasks.batch.max-size
+            taskService.createBatch(userId, IntStream.range(0, 1_000)
+                    .mapToObj(n -> new TaskCreateRequest(words(3), words(8), null, TaskStatus.TODO, null))
+                    .toList());
+        }
+        ctx.getBean(JdbcTemplate.class).execute("ANALYZE tasks");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkApp.deleteUser(ctx, userId);
+        ctx.close();
+    }
+
+    @Benchmark
+    public TaskPageResponse search() {
+        String q = QUERIES.get(ThreadLocalRandom.current().nextInt(QUERIES.size()));
+        return taskService.search(userId, q, null, null, 50);
+    }
+
+    private void seedBackground(JdbcTemplate jdbc) {
+        jdbc.update("""
+                INSERT INTO users (username, email, password)
+                SELECT 'bench-search-bg-' || g, 'bench-search-bg-' || g || '@bench.local', 'n/a'
+                  FROM generate_series(1, ?) g
+                ON CONFLICT DO NOTHING
+                """, BACKGROUND_USERS);
+        Long existing = jdbc.queryForObject("""
+                SELECT count(*) FROM tasks t JOIN users u ON u.id = t.user_id
+                 WHERE u.username LIKE 'bench-search-bg-%'
+                """, Long.class);
+        long missing = totalTasks - existing;
+        if (missing < 0) {   // left over from a larger run
+            jdbc.update("""
+                    DELETE FROM tasks WHERE id IN (
+                      SELECT t.id FROM tasks t JOIN users u ON u.id = t.user_id
+                       WHERE u.username LIKE 'bench-search-bg-%' LIMIT ?)
+                    """, -missing);
+        }
+        String vocabulary = "ARRAY['" + String.join("','", WORDS) + "']";
+        for (long done = 0; done < missing; done += 100_000) {
+            // Chunks keep each transaction (and its WAL / GIN pending list) bounded.
+            jdbc.update("""
+                    WITH bg AS (SELECT array_agg(id) AS ids FROM users WHERE username LIKE 'bench-search-bg-%%'),
+                         w AS (SELECT %1$s AS words)
+                    INSERT INTO tasks (user_id, title, description, status, completed, created_at, updated_at)
+                    SELECT bg.ids[1 + (g %% array_length(bg.ids, 1))],
+                           w.words[1 + floor(random() * 40)::int] || ' ' || w.words[1 + floor(random() * 40)::int]
+                               || ' ' || w.words[1 + floor(random() * 40)::int],
+                           -- the subquery references g so Postgres re-runs it (and random()) per row
+                           array_to_string(ARRAY(SELECT w.words[1 + floor(random() * 40)::int]
+                                                   FROM generate_series(1, 8) WHERE g IS NOT NULL), ' '),
+                           'TODO', false, now() - g * interval '1 second', now()
+                      FROM generate_series(1, ?) g, bg, w
+                    """.formatted(vocabulary), (int) Math.min(100_000, missing - done));
+        }
+    }
+
+    private static String words(int count) {
+        var random = ThreadLocalRandom.current();
+        return String.join(" ", IntStream.range(0, count).mapToObj(i -> WORDS[random.nextInt(WORDS.length)]).toList());
+    }
+}
@@ -0,0 +1,58 @@
+package com.smarttask.smarttask_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * WHY: Puts ConcurrencyLimitingDataSource in front of the Hikari pool (db.limiter.enabled),
+ * sized to the pool's maximum size. Meant to be switched on together with virtual threads.
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.limiter.enabled", havingValue = "true")
+public class DataSourceLimiterConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceLimiter(@Value("${db.limiter.max-wait:PT30S}") Duration maxWait) {
+        return new LimitingPostProcessor(maxWait);
+    }
+
+    @Bean
+    MeterBinder dataSourceLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                if (dataSource.isWrapperFor(ConcurrencyLimitingDataSource.class)) {
+                    dataSource.unwrap(ConcurrencyLimitingDataSource.class).bindTo(registry);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /** Runs first, so the limiter sits directly on the pool even when ReadReplicaConfig wraps it again. */
+    private record LimitingPostProcessor(Duration maxWait) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                return new ConcurrencyLimitingDataSource(hikari, hikari.getMaximumPoolSize(), maxWait);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
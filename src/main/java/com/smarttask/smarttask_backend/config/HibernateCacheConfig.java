@@ -0,0 +1,64 @@
+package com.smarttask.smarttask_backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * WHY: Hibernate second-level cache for User (db.cache.enabled), Caffeine behind JCache.
+ * Regions are created here with a size bound and a TTL instead of the provider's unbounded defaults;
+ * a cached entity without a region below fails at startup (missing_cache_strategy = fail).
+ * Writes through Hibernate update the cache of this instance only, so the TTL bounds how long another
+ * instance can serve a user changed elsewhere (the same trade-off as security.principal-cache).
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    // Region names used by @Cache / @NaturalIdCache on User.
+    static final String USERS_REGION = "users";
+    static final String USERS_BY_USERNAME_REGION = "users-by-username";
+
+    /** One manager per application context, so contexts in the same JVM (tests) never share entries. */
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(@Value("${db.cache.users.max-size:10000}") long maxSize,
+                                       @Value("${db.cache.users.ttl:PT60S}") Duration ttl) {
+        var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        var manager = provider.getCacheManager(URI.create("urn:smarttask:hibernate:" + UUID.randomUUID()),
+                getClass().getClassLoader());
+        manager.createCache(USERS_REGION, region(maxSize, ttl));
+        manager.createCache(USERS_BY_USERNAME_REGION, region(maxSize, ttl));
+        return manager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return props -> {
+            props.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            props.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            props.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            props.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maxSize))
+                .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()))
+                .setStoreByValue(false)   // Hibernate caches disassembled, immutable entries
+                .setStatisticsEnabled(true);
+    }
+}
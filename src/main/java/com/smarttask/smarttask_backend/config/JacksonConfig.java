@@ -0,0 +1,22 @@
+package com.smarttask.smarttask_backend.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.smarttask.smarttask_backend.dto.TaskFields;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * WHY: TaskResponse is annotated with a Jackson filter for sparse fieldsets.
+ * Registering it as "serialize everything" keeps every other response unchanged.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    Jackson2ObjectMapperBuilderCustomizer taskFieldsFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(TaskFields.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.smarttask.smarttask_backend.config;
+
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * WHY: Metrics for the request, auth and persistence hot paths, scraped from /actuator/prometheus.
+ * - @Timed on TaskService / AuthService (tasks.service, auth.service; tagged class + method)
+ * - http.server.requests gets a bounded status_filter tag from ?status=
+ * - SQL statements per request (http.server.requests.queries); Hibernate statistics (hibernate.*) are bound
+ *   by Spring Boot once hibernate.generate_statistics is on
+ * Percentile histograms are switched on per meter in application.yaml (management.metrics.distribution.*).
+ * JWT verification and BCrypt are timed where they happen (JwtAuthFilter, PasswordHasher); Hikari
+ * acquire time comes from Spring Boot's pool metrics (hikaricp.connections.acquire).
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> STATUS_FILTERS = Stream.of(TaskStatus.values())
+            .map(Enum::name).collect(Collectors.toUnmodifiableSet());
+
+    @Bean
+    TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    DefaultServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(statusFilter(context.getCarrier()));
+            }
+        };
+    }
+
+    /** Only the enum names (or none / invalid) become tag values, so a client cannot grow the series count. */
+    private static KeyValue statusFilter(HttpServletRequest request) {
+        String status = request.getParameter("status");
+        String value = status == null ? "none" : STATUS_FILTERS.contains(status) ? status : "invalid";
+        return KeyValue.of("status_filter", value);
+    }
+
+    /** Runs first so later customizers (e.g. a test recorder) can wrap the inspector instead of replacing it. */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    HibernatePropertiesCustomizer queryCountingCustomizer() {
+        return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+
+    /** Records the SQL statements each request issued, tagged with the matched route. */
+    @Bean
+    FilterRegistrationBean<OncePerRequestFilter> queryCountFilter(MeterRegistry registry) {
+        var filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                QueryCounter.reset();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    DistributionSummary.builder("http.server.requests.queries")
+                            .description("SQL statements issued while handling one request")
+                            .tag("uri", route == null ? "UNKNOWN" : route.toString())
+                            .register(registry)
+                            .record(QueryCounter.current());
+                }
+            }
+        };
+        var registration = new FilterRegistrationBean<OncePerRequestFilter>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,29 @@
+package com.smarttask.smarttask_backend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * WHY: Counts the SQL statements Hibernate prepares on the current thread so MetricsConfig can record
+ * queries per request. Registered as Hibernate's StatementInspector; it only counts and never rewrites SQL.
+ * Requests run start to finish on one thread (platform or virtual), so a thread-local is enough.
+ */
+public final class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /** Resets the count for the current thread. */
+    static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /** Statements prepared on the current thread since the last reset. */
+    static int current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,73 @@
+package com.smarttask.smarttask_backend.config;
+
+import com.smarttask.smarttask_backend.service.TaskChangeFanout;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * WHY: Sends @ReplicaRead transactions to read replicas (db.replica.enabled).
+ * The primary pool stays Spring Boot's; it is wrapped in ReplicaRoutingDataSource, after the limiter
+ * (DataSourceLimiterConfig) so that one keeps guarding the primary pool only.
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    ReplicaRouter replicaRouter(@Value("${db.replica.urls}") List<String> urls,
+                                @Value("${db.replica.username:${spring.datasource.username}}") String username,
+                                @Value("${db.replica.password:${spring.datasource.password}}") String password,
+                                @Value("${db.replica.pool-size:10}") int poolSize,
+                                @Value("${db.replica.connect-timeout:PT2S}") Duration connectTimeout,
+                                @Value("${db.replica.max-lag:PT1S}") Duration maxLag,
+                                @Value("${db.replica.read-your-writes:PT5S}") Duration readYourWrites,
+                                MeterRegistry registry) {
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("db.replica.enabled is set but db.replica.urls is empty");
+        }
+        return new ReplicaRouter(urls, username, password, poolSize, connectTimeout, maxLag, readYourWrites, registry);
+    }
+
+    @Bean
+    static BeanPostProcessor replicaRoutingDataSource(ObjectProvider<ReplicaRouter> router) {
+        return new RoutingPostProcessor(router);
+    }
+
+    @Bean
+    ReplicaReadAspect replicaReadAspect(ReplicaRouter router) {
+        return new ReplicaReadAspect(router);
+    }
+
+    /** Writes committed on other instances also pin their users to the primary here. */
+    @Bean
+    SmartInitializingSingleton replicaWriteTracking(ReplicaRouter router, TaskChangeFanout fanout) {
+        return () -> fanout.subscribe(event -> router.userWrote(event.userId()));
+    }
+
+    private record RoutingPostProcessor(ObjectProvider<ReplicaRouter> router) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource primary && "dataSource".equals(beanName)) {
+                return new ReplicaRoutingDataSource(primary, router.getObject());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.smarttask.smarttask_backend.config;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * WHY: Marks a read-only transaction that may be served by a read replica (db.replica.enabled).
+ * Without replicas it is just a read-only transaction on the primary. Only put it on reads that can
+ * live with replica lag; ReplicaRouter keeps a user on the primary for a while after their own writes.
+ * Spring's @Transactional is used here because jakarta.transaction.Transactional has no read-only flag.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Transactional(readOnly = true)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,54 @@
+package com.smarttask.smarttask_backend.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * WHY: Opens a scope while a @ReplicaRead method runs, so ReplicaRoutingDataSource knows the connection
+ * being opened may come from a replica. Ordered ahead of the transaction interceptor, because the
+ * transaction takes its connection when it begins. If a read served by a replica fails, the replica
+ * is checked at once instead of at the next health check.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class ReplicaReadAspect {
+
+    /** The replica serving the current @ReplicaRead call, if any. */
+    static final class Scope {
+        ReplicaRouter.Replica replica;
+    }
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private final ReplicaRouter router;
+
+    ReplicaReadAspect(ReplicaRouter router) {
+        this.router = router;
+    }
+
+    static Scope current() {
+        return SCOPE.get();
+    }
+
+    @Around("@annotation(com.smarttask.smarttask_backend.config.ReplicaRead)")
+    public Object route(ProceedingJoinPoint pjp) throws Throwable {
+        if (SCOPE.get() != null) {
+            return pjp.proceed();
+        }
+        var scope = new Scope();
+        SCOPE.set(scope);
+        try {
+            return pjp.proceed();
+        } catch (RuntimeException e) {
+            if (scope.replica != null) {
+                router.failed(scope.replica, e);
+            }
+            throw e;
+        } finally {
+            SCOPE.remove();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.smarttask.smarttask_backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smarttask.smarttask_backend.dto.TaskChangeEvent;
+import com.smarttask.smarttask_backend.security.UserPrincipal;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WHY: Decides which replica, if any, serves a @ReplicaRead transaction.
+ * - Each replica has its own Hikari pool; a health check measures its replay lag and takes it out of
+ *   rotation when it is unreachable or further behind than db.replica.max-lag.
+ * - A signed-in user always lands on the same replica (hash of the user id), so the list version behind
+ *   an ETag and the page read next come from the same copy and never step back in time.
+ * - Read-your-writes: for db.replica.read-your-writes after a committed change to a user's tasks, that
+ *   user's reads stay on the primary. Changes from other instances arrive through the task change fan-out.
+ * - With no healthy replica every read goes to the primary.
+ * Routing decisions are counted in db.replica.reads (route=replica|recent-write|unavailable).
+ */
+@Slf4j
+public class ReplicaRouter implements AutoCloseable {
+
+    // Lag is 0 when everything received has been replayed: an idle primary sends nothing new,
+    // so the age of the last replayed transaction alone would look like growing lag.
+    // (<=, because after a restart the receive position starts over at a segment boundary behind replay.)
+    // A server that is not in recovery (a plain copy, e.g. in local testing) reports 0 as well.
+    private static final String LAG_SQL = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() <= pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END
+            """;
+
+    static final class Replica {
+        final String name;
+        final HikariDataSource pool;
+        volatile boolean healthy;
+        volatile double lagSeconds = Double.NaN;
+
+        Replica(String name, HikariDataSource pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+
+        Connection getConnection() throws SQLException {
+            return pool.getConnection();
+        }
+    }
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final double maxLagSeconds;
+    private final Cache<UUID, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter toReplica;
+    private final Counter recentWrite;
+    private final Counter unavailable;
+
+    public ReplicaRouter(List<String> urls, String username, String password, int poolSize,
+                         Duration connectTimeout, Duration maxLag, Duration readYourWrites, MeterRegistry registry) {
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWrites)
+                .build();
+        for (String url : urls) {
+            var config = new HikariConfig();
+            config.setPoolName("replica-" + (replicas.size() + 1));
+            config.setJdbcUrl(url);
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setConnectionTimeout(connectTimeout.toMillis());
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);   // a replica that is down must not stop startup
+            config.setMetricRegistry(registry);
+            // Out of rotation until the first health check has seen it.
+            var replica = new Replica(config.getPoolName(), new HikariDataSource(config));
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("1 while the replica is in rotation")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replay lag seen by the last health check")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            replicas.add(replica);
+        }
+        this.toReplica = reads(registry, "replica");
+        this.recentWrite = reads(registry, "recent-write");
+        this.unavailable = reads(registry, "unavailable");
+        log.info("🪞 Read replicas configured: {}", replicas.stream().map(r -> r.name).toList());
+    }
+
+    private static Counter reads(MeterRegistry registry, String route) {
+        return Counter.builder("db.replica.reads")
+                .description("Connections opened for @ReplicaRead transactions, by where they went")
+                .tag("route", route)
+                .register(registry);
+    }
+
+    /** The replica for the current read, or null to use the primary. */
+    Replica choose() {
+        UUID userId = currentUserId();
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            recentWrite.increment();
+            return null;
+        }
+        int n = replicas.size();
+        int start = userId != null ? Math.floorMod(userId.hashCode(), n) : Math.floorMod(next.getAndIncrement(), n);
+        for (int i = 0; i < n; i++) {
+            var replica = replicas.get((start + i) % n);
+            if (replica.healthy) {
+                toReplica.increment();
+                return replica;
+            }
+        }
+        unavailable.increment();
+        return null;
+    }
+
+    void markDown(Replica replica, SQLException e) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("🔴 Replica {} unavailable, reading from the primary: {}", replica.name, e.getMessage());
+        }
+    }
+
+    /**
+     * A read served by the replica failed with a database error: re-check it now rather than at the next
+     * health check. Spring may report only the failed rollback, so the original error cannot be inspected.
+     */
+    void failed(Replica replica, Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof SQLException) {
+                check(replica);
+                return;
+            }
+        }
+    }
+
+    /** Keeps the user's reads on the primary for the read-your-writes window. */
+    public void userWrote(UUID userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    // Local commits are seen here straight away; the fan-out may deliver them a little later.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommitted(TaskChangeEvent event) {
+        userWrote(event.userId());
+    }
+
+    @Scheduled(fixedDelayString = "${db.replica.health-interval:PT2S}")
+    public void checkHealth() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(Replica replica) {
+        boolean wasHealthy = replica.healthy;
+        try (var conn = replica.getConnection()) {
+            replica.lagSeconds = replayLag(conn);
+            replica.healthy = replica.lagSeconds <= maxLagSeconds;
+            if (wasHealthy && !replica.healthy) {
+                log.warn("🐢 Replica {} is {}s behind, reading from the primary", replica.name, replica.lagSeconds);
+            } else if (!wasHealthy && replica.healthy) {
+                log.info("🟢 Replica {} in rotation (lag {}s)", replica.name, replica.lagSeconds);
+            }
+        } catch (SQLException e) {
+            replica.lagSeconds = Double.NaN;
+            markDown(replica, e);
+        }
+    }
+
+    /** Seconds the replica behind conn is behind its primary. Package-private so tests can simulate lag. */
+    double replayLag(Connection conn) throws SQLException {
+        try (var st = conn.createStatement();
+             var rs = st.executeQuery(LAG_SQL)) {
+            rs.next();
+            return rs.getDouble(1);
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(r -> r.pool.close());
+    }
+
+    private static UUID currentUserId() {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof UserPrincipal p ? p.id() : null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.smarttask.smarttask_backend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * WHY: The application's DataSource when replicas are configured. Everything goes to the primary
+ * (the wrapped pool) except connections opened for a @ReplicaRead transaction, which ReplicaRouter may
+ * hand to a replica. A replica that refuses a connection is marked down and the primary is used instead.
+ */
+public class ReplicaRoutingDataSource extends DelegatingDataSource {
+
+    private final ReplicaRouter router;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaRouter router) {
+        super(primary);
+        this.router = router;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var scope = ReplicaReadAspect.current();
+        if (scope != null) {
+            var replica = router.choose();
+            if (replica != null) {
+                try {
+                    var conn = replica.getConnection();
+                    scope.replica = replica;
+                    return conn;
+                } catch (SQLException e) {
+                    router.markDown(replica, e);
+                }
+            }
+        }
+        return super.getConnection();
+    }
+}
@@ -0,0 +1,10 @@
+package com.smarttask.smarttask_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** WHY: Enables @Scheduled background jobs (e.g. SSE heartbeats). */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
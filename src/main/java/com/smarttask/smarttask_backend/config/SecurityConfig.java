@@ -2,13 +2,19 @@ package com.smarttask.smarttask_backend.config;
 
 import com.smarttask.smarttask_backend.security.JwtAuthFilter;
 import com.smarttask.smarttask_backend.security.JwtService;
+import com.smarttask.smarttask_backend.security.PrincipalCache;
 import com.smarttask.smarttask_backend.service.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -26,10 +32,16 @@ public class SecurityConfig {
 
     private final UserDetailsServiceImpl uds;
     private final JwtService jwt;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
+    @Value("${management.prometheus.public:false}")
+    private boolean prometheusPublic;
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
 
     @Bean
     PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
@@ -47,7 +59,7 @@ public class SecurityConfig {
 
     @Bean
     JwtAuthFilter jwtAuthFilter() {
-        return new JwtAuthFilter(jwt, uds);
+        return new JwtAuthFilter(jwt, principalCache, meterRegistry);
     }
 
     @Bean
@@ -66,10 +78,13 @@ public class SecurityConfig {
                     ));
                     c.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
                     c.setAllowedHeaders(List.of("*"));
-                    c.setExposedHeaders(List.of("Authorization"));
+                    c.setExposedHeaders(List.of("Authorization", "ETag"));
                     return c;
                 }))
                 .authorizeHttpRequests(auth -> auth
+                        // ✅ Async re-dispatches (e.g. SSE completion) belong to an already authorized request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // ✅ Public endpoints (no token needed)
                         .requestMatchers(
                                 "/api/auth/swagger-login",  // Swagger login is PUBLIC
@@ -81,9 +96,15 @@ public class SecurityConfig {
                                 "/v1/api-docs/**",
                                 "/v3/api-docs/**",
                                 "/error",
-                                "/actuator/health"
+                                "/actuator/health",
+                                "/.well-known/jwks.json"
                         ).permitAll()
 
+                        // ✅ Prometheus scrapes without a JWT only when enabled (keep it off on public deployments)
+                        .requestMatchers("/actuator/prometheus").access(prometheusPublic
+                                ? (authentication, context) -> new AuthorizationDecision(true)
+                                : AuthenticatedAuthorizationManager.authenticated())
+
                         // ✅ All other endpoints require JWT
                         .anyRequest().authenticated()
                 )
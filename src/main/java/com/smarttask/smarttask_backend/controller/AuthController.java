@@ -3,12 +3,14 @@ import com.smarttask.smarttask_backend.dto.LoginRequest;
 import com.smarttask.smarttask_backend.dto.RegisterRequest;
 import com.smarttask.smarttask_backend.dto.TokenResponse;
 import com.smarttask.smarttask_backend.dto.UserResponse;
+import com.smarttask.smarttask_backend.security.AuthRateLimiter;
+import com.smarttask.smarttask_backend.security.UserPrincipal;
 import com.smarttask.smarttask_backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 /** WHY: Public auth endpoints for Flutter/web clients. */
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AuthController {
     private final AuthService auth;
+    private final AuthRateLimiter rateLimiter;
 
     @PostMapping("/register")
     public ResponseEntity<UserResponse> register(@Valid @RequestBody RegisterRequest req) {
@@ -24,18 +27,20 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest req) {
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest req, HttpServletRequest request) {
+        rateLimiter.checkLogin(request.getRemoteAddr(), req.username());
         return ResponseEntity.ok(auth.login(req));
     }
 
     @PostMapping("/refresh")
-    public ResponseEntity<TokenResponse> refresh(@RequestParam String refreshToken) {
+    public ResponseEntity<TokenResponse> refresh(@RequestParam String refreshToken, HttpServletRequest request) {
+        rateLimiter.checkRefresh(request.getRemoteAddr());
         return ResponseEntity.ok(auth.refresh(refreshToken));
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@AuthenticationPrincipal UserDetails ud) {
-        auth.logout(ud.getUsername());
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal UserPrincipal principal) {
+        auth.logout(principal.id());
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,32 @@
+package com.smarttask.smarttask_backend.controller;
+
+import com.smarttask.smarttask_backend.security.JwtService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * Public keys for verifying our access tokens without the shared secret (RFC 7517 key set).
+ * Empty while tokens are signed with HS256.
+ */
+@RestController
+public class JwksController {
+    private final JwtService jwtService;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtService jwtService,
+                          @Value("${security.jwt.keys.jwks-max-age:PT15M}") Duration maxAge) {
+        this.jwtService = jwtService;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        return ResponseEntity.ok().cacheControl(cacheControl).body(jwtService.jwks());
+    }
+}
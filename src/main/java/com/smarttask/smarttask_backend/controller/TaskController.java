@@ -1,17 +1,35 @@
 package com.smarttask.smarttask_backend.controller;
 
+import com.smarttask.smarttask_backend.dto.TaskBulkFilter;
+import com.smarttask.smarttask_backend.dto.TaskBulkResponse;
+import com.smarttask.smarttask_backend.dto.TaskBulkStatusRequest;
 import com.smarttask.smarttask_backend.dto.TaskCreateRequest;
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.dto.TaskFields;
 import com.smarttask.smarttask_backend.dto.TaskUpdateRequest;
 import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.security.UserPrincipal;
+import com.smarttask.smarttask_backend.service.TaskChangeFeed;
+import com.smarttask.smarttask_backend.service.TaskExportLimiter;
 import com.smarttask.smarttask_backend.service.TaskService;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -19,41 +37,163 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TaskController {
     private final TaskService tasks;
+    private final TaskChangeFeed changeFeed;
+    private final TaskExportLimiter exportLimiter;
 
     @GetMapping
-    public ResponseEntity<?> list(@AuthenticationPrincipal UserDetails ud,
-                                  @RequestParam(value = "status", required = false) TaskStatus status) {
-        if (ud == null) {
+    public ResponseEntity<?> list(@AuthenticationPrincipal UserPrincipal principal,
+                                  @RequestParam(value = "status", required = false) TaskStatus status,
+                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                  @RequestParam(value = "limit", defaultValue = "50") int limit,
+                                  @RequestParam(value = "fields", required = false) String fields,
+                                  WebRequest request) {
+        if (principal == null) {
             return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
         }
-        return ResponseEntity.ok(tasks.list(ud.getUsername(), status));
+        Set<String> selected = TaskFields.parse(fields);
+
+        // Version is read before the page, so a concurrent write can only make the ETag older, never newer.
+        String etag = listEtag(tasks.listVersion(principal.id()), status, cursor, limit, selected);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        var page = tasks.list(principal.id(), status, cursor, limit, selected);
+        if (selected == null) {
+            return ResponseEntity.ok().eTag(etag).body(page);
+        }
+        var body = new MappingJacksonValue(page);
+        body.setFilters(new SimpleFilterProvider()
+                .addFilter(TaskFields.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(selected)));
+        return ResponseEntity.ok().eTag(etag).body(body);
+    }
+
+    /**
+     * Ranked full-text search over title and description. Accepts web-search syntax
+     * (words, "quoted phrases", -excluded), optionally narrowed by status; paginated like the list.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@AuthenticationPrincipal UserPrincipal principal,
+                                    @RequestParam(value = "q", required = false) String q,
+                                    @RequestParam(value = "status", required = false) TaskStatus status,
+                                    @RequestParam(value = "cursor", required = false) String cursor,
+                                    @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        if (principal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
+        }
+        return ResponseEntity.ok(tasks.search(principal.id(), q, status, cursor, limit));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<?> stats(@AuthenticationPrincipal UserPrincipal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
+        }
+        return ResponseEntity.ok(tasks.stats(principal.id()));
+    }
+
+    /**
+     * Every task of the caller as NDJSON or CSV, streamed from a database cursor while the response is written.
+     * Answers 503 when tasks.export.max-concurrent exports are already streaming.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal UserPrincipal principal,
+                                                        @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        if (principal == null) {
+            return ResponseEntity.status(401).build();
+        }
+        var exportFormat = TaskExportFormat.parse(format);
+        UUID userId = principal.id();
+        exportLimiter.acquire();
+        StreamingResponseBody body = out -> {
+            try {
+                tasks.export(userId, exportFormat, out);
+            } finally {
+                exportLimiter.release();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.extension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * Server-Sent Events stream of changes to the caller's tasks.
+     * Reconnecting clients send Last-Event-ID to receive what they missed (or a "resync" event).
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@AuthenticationPrincipal UserPrincipal principal,
+                                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        if (principal == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")   // keep reverse proxies from buffering the stream
+                .body(changeFeed.subscribe(principal.id(), lastEventId));
     }
 
     @PostMapping
-    public ResponseEntity<?> create(@AuthenticationPrincipal UserDetails ud,
+    public ResponseEntity<?> create(@AuthenticationPrincipal UserPrincipal principal,
                                     @Valid @RequestBody TaskCreateRequest req) {
-        if (ud == null) {
+        if (principal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
+        }
+        return ResponseEntity.ok(tasks.create(principal.id(), req));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<?> createBatch(@AuthenticationPrincipal UserPrincipal principal,
+                                         @RequestBody List<TaskCreateRequest> reqs) {
+        if (principal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
+        }
+        return ResponseEntity.ok(tasks.createBatch(principal.id(), reqs));
+    }
+
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<?> bulkUpdateStatus(@AuthenticationPrincipal UserPrincipal principal,
+                                              @Valid @RequestBody TaskBulkStatusRequest req) {
+        if (principal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
+        }
+        return ResponseEntity.ok(new TaskBulkResponse(tasks.bulkUpdateStatus(principal.id(), req.filter(), req.status())));
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<?> bulkDelete(@AuthenticationPrincipal UserPrincipal principal,
+                                        @RequestBody TaskBulkFilter filter) {
+        if (principal == null) {
             return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
         }
-        return ResponseEntity.ok(tasks.create(ud.getUsername(), req));
+        return ResponseEntity.ok(new TaskBulkResponse(tasks.bulkDelete(principal.id(), filter)));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> update(@AuthenticationPrincipal UserDetails ud,
+    public ResponseEntity<?> update(@AuthenticationPrincipal UserPrincipal principal,
                                     @PathVariable UUID id,
                                     @Valid @RequestBody TaskUpdateRequest req) {
-        if (ud == null) {
+        if (principal == null) {
             return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
         }
-        return ResponseEntity.ok(tasks.update(ud.getUsername(), id, req));
+        return ResponseEntity.ok(tasks.update(principal.id(), id, req));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> delete(@AuthenticationPrincipal UserDetails ud, @PathVariable UUID id) {
-        if (ud == null) {
+    public ResponseEntity<?> delete(@AuthenticationPrincipal UserPrincipal principal, @PathVariable UUID id) {
+        if (principal == null) {
             return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
         }
-        tasks.delete(ud.getUsername(), id);
+        tasks.delete(principal.id(), id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Strong ETag for one list representation: the user's list version plus the query variant,
+     * so ?status=, paging and ?fields= variants never share a validator.
+     */
+    private static String listEtag(long version, TaskStatus status, String cursor, int limit, Set<String> fields) {
+        String variant = status + "|" + cursor + "|" + limit + "|" + fields;
+        return "\"" + version + "-" + Integer.toHexString(variant.hashCode()) + "\"";
+    }
 }
@@ -0,0 +1,75 @@
+package com.smarttask.smarttask_backend.controller;
+
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.security.UserPrincipal;
+import com.smarttask.smarttask_backend.service.TaskImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/tasks/imports")
+@RequiredArgsConstructor
+public class TaskImportController {
+    private final TaskImportService imports;
+
+    /**
+     * Imports the raw request body (CSV with a header row, or NDJSON) into the caller's tasks.
+     * The body is parsed while it uploads; poll GET /api/tasks/imports for progress meanwhile.
+     * Form content types are refused: the servlet container would consume the body as parameters.
+     */
+    @PostMapping(consumes = {"text/csv", "application/x-ndjson", MediaType.APPLICATION_JSON_VALUE,
+            MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<?> importTasks(@AuthenticationPrincipal UserPrincipal principal,
+                                         @RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                         InputStream body) throws IOException {
+        if (principal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
+        }
+        return ResponseEntity.ok(imports.importTasks(principal.id(), TaskExportFormat.parse(format), body));
+    }
+
+    @GetMapping
+    public ResponseEntity<?> recent(@AuthenticationPrincipal UserPrincipal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
+        }
+        return ResponseEntity.ok(imports.recent(principal.id()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> get(@AuthenticationPrincipal UserPrincipal principal, @PathVariable UUID id) {
+        if (principal == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "Unauthorized - Missing or invalid token"));
+        }
+        return imports.find(principal.id(), id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(404).body(Map.of("error", "Import not found")));
+    }
+
+    /** Rejected rows of an import as CSV: line number, reason and the original record. */
+    @GetMapping("/{id}/errors")
+    public ResponseEntity<StreamingResponseBody> errors(@AuthenticationPrincipal UserPrincipal principal,
+                                                        @PathVariable UUID id) {
+        if (principal == null) {
+            return ResponseEntity.status(401).build();
+        }
+        if (imports.find(principal.id(), id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        StreamingResponseBody body = out -> imports.writeErrors(id, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv;charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import-" + id + "-errors.csv\"")
+                .body(body);
+    }
+}
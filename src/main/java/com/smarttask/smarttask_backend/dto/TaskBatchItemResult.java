@@ -0,0 +1,12 @@
+package com.smarttask.smarttask_backend.dto;
+
+/**
+ * DTO for the outcome of one item of a batch create.
+ * index refers to the position in the request array; exactly one of task / error is set.
+ */
+public record TaskBatchItemResult(
+        int index,
+        boolean created,
+        TaskResponse task,
+        String error
+) {}
@@ -0,0 +1,13 @@
+package com.smarttask.smarttask_backend.dto;
+
+import java.util.List;
+
+/**
+ * DTO returned by POST /api/tasks/batch.
+ * Results are in request order; rejected items do not prevent the valid ones from being created.
+ */
+public record TaskBatchResponse(
+        int created,
+        int rejected,
+        List<TaskBatchItemResult> results
+) {}
@@ -0,0 +1,26 @@
+package com.smarttask.smarttask_backend.dto;
+
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO selecting the caller's tasks for a bulk operation.
+ * All set criteria must match (AND). dueFrom is inclusive, dueTo exclusive.
+ */
+public record TaskBulkFilter(
+        TaskStatus status,
+        OffsetDateTime dueFrom,
+        OffsetDateTime dueTo,
+        List<UUID> ids
+) {
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return status == null && dueFrom == null && dueTo == null && !hasIds();
+    }
+}
@@ -0,0 +1,8 @@
+package com.smarttask.smarttask_backend.dto;
+
+/**
+ * DTO returned by bulk task operations.
+ */
+public record TaskBulkResponse(
+        int affected
+) {}
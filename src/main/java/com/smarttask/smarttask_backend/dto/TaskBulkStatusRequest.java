@@ -0,0 +1,13 @@
+package com.smarttask.smarttask_backend.dto;
+
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for PATCH /api/tasks/bulk/status.
+ * Moves every task matched by filter to status.
+ */
+public record TaskBulkStatusRequest(
+        @NotNull TaskBulkFilter filter,
+        @NotNull TaskStatus status
+) {}
@@ -0,0 +1,29 @@
+package com.smarttask.smarttask_backend.dto;
+
+import java.util.UUID;
+
+/**
+ * DTO describing a committed change to a user's tasks.
+ * Published by TaskService, pushed to GET /api/tasks/stream subscribers and, with the Postgres fan-out,
+ * carried between instances as the NOTIFY payload.
+ *
+ * @param version the user's task list version after the change; used as the SSE event id
+ * @param taskId  the affected task, null for bulk changes
+ * @param count   number of tasks affected
+ */
+public record TaskChangeEvent(
+        UUID userId,
+        long version,
+        Type type,
+        UUID taskId,
+        int count
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        BULK_CREATED,
+        BULK_UPDATED,
+        BULK_DELETED
+    }
+}
@@ -2,16 +2,17 @@ package com.smarttask.smarttask_backend.dto;
 
 import com.smarttask.smarttask_backend.entity.TaskStatus;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 import java.time.OffsetDateTime;
 
 /**
  * DTO for creating a new task.
  * Used in TaskController @PostMapping("/api/tasks").
- * @NotBlank ensures title cannot be empty.
+ * @NotBlank ensures title cannot be empty; @Size matches the tasks.title column.
  */
 public record TaskCreateRequest(
-        @NotBlank String title,
+        @NotBlank @Size(max = 200) String title,
         String description,
         OffsetDateTime dueDate,
         TaskStatus status,
@@ -0,0 +1,47 @@
+package com.smarttask.smarttask_backend.dto;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * WHY: Sparse fieldsets for task listing (?fields=id,title,status,dueDate).
+ * TaskResponse carries the "taskFields" Jackson filter; by default it serializes everything
+ * (see JacksonConfig), and TaskController narrows it per request.
+ */
+public final class TaskFields {
+
+    public static final String FILTER_ID = "taskFields";
+
+    public static final Set<String> ALL = Set.of(
+            "id", "title", "description", "status", "completed", "dueDate", "createdAt");
+
+    private TaskFields() {}
+
+    /**
+     * Parses a comma-separated field list. Returns null (meaning all fields) for a missing or blank value.
+     */
+    public static Set<String> parse(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return null;
+        }
+        var fields = new LinkedHashSet<String>();
+        for (String raw : csv.split(",")) {
+            String field = raw.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!ALL.contains(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+            fields.add(field);
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one field");
+        }
+        return fields;
+    }
+
+    public static boolean includes(Set<String> fields, String field) {
+        return fields == null || fields.contains(field);
+    }
+}
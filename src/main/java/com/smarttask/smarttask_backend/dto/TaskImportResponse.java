@@ -0,0 +1,27 @@
+package com.smarttask.smarttask_backend.dto;
+
+import com.smarttask.smarttask_backend.entity.TaskImport;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO for POST /api/tasks/imports and GET /api/tasks/imports/{id}.
+ * While status is LOADING, rowsRead / rowsRejected grow as the upload is parsed; rowsImported is set on completion.
+ */
+public record TaskImportResponse(
+        UUID id,
+        TaskExportFormat format,
+        TaskImport.Status status,
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        String error,
+        Instant createdAt,
+        Instant finishedAt
+) {
+    public static TaskImportResponse from(TaskImport i) {
+        return new TaskImportResponse(i.getId(), i.getFormat(), i.getStatus(), i.getRowsRead(), i.getRowsImported(),
+                i.getRowsRejected(), i.getError(), i.getCreatedAt(), i.getFinishedAt());
+    }
+}
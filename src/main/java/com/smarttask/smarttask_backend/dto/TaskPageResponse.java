@@ -0,0 +1,12 @@
+package com.smarttask.smarttask_backend.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of tasks.
+ * nextCursor is opaque to clients; pass it back as ?cursor= to fetch the next page (null on the last page).
+ */
+public record TaskPageResponse(
+        List<TaskResponse> items,
+        String nextCursor
+) {}
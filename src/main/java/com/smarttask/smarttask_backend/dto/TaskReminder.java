@@ -0,0 +1,7 @@
+package com.smarttask.smarttask_backend.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/** A task whose due date falls inside the reminder window, as handed to TaskReminderNotifier. */
+public record TaskReminder(UUID taskId, UUID userId, String title, OffsetDateTime dueDate) {}
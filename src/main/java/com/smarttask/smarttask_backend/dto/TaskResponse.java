@@ -1,13 +1,18 @@
 package com.smarttask.smarttask_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.smarttask.smarttask_backend.entity.Task;
 import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.repository.TaskView;
 
 import java.time.OffsetDateTime;
 
 /**
  * DTO for returning task data to the client.
  * Used as the response type in TaskController.
+ * Listing can narrow the serialized properties with ?fields= (see TaskFields).
  */
+@JsonFilter(TaskFields.FILTER_ID)
 public record TaskResponse(
         String id,
         String title,
@@ -16,4 +21,30 @@ public record TaskResponse(
         boolean completed,
         OffsetDateTime dueDate,
         String createdAt
-) {}
+) {
+
+    public static TaskResponse from(Task task) {
+        var legacyCompleted = task.getStatus() == TaskStatus.DONE;
+        return new TaskResponse(
+                task.getId().toString(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                legacyCompleted,
+                task.getDueDate(),
+                task.getCreatedAt().toString()
+        );
+    }
+
+    public static TaskResponse from(TaskView task) {
+        return new TaskResponse(
+                task.id().toString(),
+                task.title(),
+                task.description(),
+                task.status(),
+                task.status() == TaskStatus.DONE,
+                task.dueDate(),
+                task.createdAt().toString()
+        );
+    }
+}
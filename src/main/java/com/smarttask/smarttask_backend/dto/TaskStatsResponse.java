@@ -0,0 +1,34 @@
+package com.smarttask.smarttask_backend.dto;
+
+import com.smarttask.smarttask_backend.entity.TaskStats;
+
+import java.time.Instant;
+
+/**
+ * DTO for GET /api/tasks/stats.
+ * Status counts are exact. overdue and dueThisWeek were recomputed at refreshedAt and adjusted by every
+ * write since, so tasks that crossed a due date in between are picked up by the next reconciliation.
+ */
+public record TaskStatsResponse(
+        long todo,
+        long inProgress,
+        long done,
+        long total,
+        long overdue,
+        long dueThisWeek,
+        Instant refreshedAt
+) {
+    public static final TaskStatsResponse EMPTY = new TaskStatsResponse(0, 0, 0, 0, 0, 0, null);
+
+    public static TaskStatsResponse from(TaskStats s) {
+        // Deltas are applied against now(), so a clock-relative counter can briefly dip below zero.
+        return new TaskStatsResponse(
+                s.getTodoCount(),
+                s.getInProgressCount(),
+                s.getDoneCount(),
+                s.getTodoCount() + s.getInProgressCount() + s.getDoneCount(),
+                Math.max(0, s.getOverdueCount()),
+                Math.max(0, s.getDueWeekCount()),
+                s.getRefreshedAt());
+    }
+}
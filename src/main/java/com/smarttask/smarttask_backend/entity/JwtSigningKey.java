@@ -0,0 +1,42 @@
+package com.smarttask.smarttask_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * WHY: One asymmetric JWT signing key, shared by all instances; see V11 for its lifecycle.
+ * The private key is stored encrypted (JwtKeyStore); the public key is what the JWKS publishes.
+ */
+@Entity @Table(name = "jwt_signing_keys")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class JwtSigningKey {
+
+    /** RFC 7638 thumbprint of the public key; the JWS "kid" header. */
+    @Id
+    @Column(nullable = false, length = 64, updatable = false)
+    private String kid;
+
+    /** JWS algorithm id: ES256 or EdDSA. */
+    @Column(nullable = false, length = 10, updatable = false)
+    private String algorithm;
+
+    /** X.509 SubjectPublicKeyInfo. */
+    @Column(name = "public_key", nullable = false, updatable = false)
+    private byte[] publicKey;
+
+    /** AES-GCM nonce followed by the encrypted PKCS#8 private key. */
+    @Column(name = "private_key", nullable = false, updatable = false)
+    private byte[] privateKey;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "activates_at", nullable = false, updatable = false)
+    private Instant activatesAt;
+
+    /** Null while the key is current or upcoming. */
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+}
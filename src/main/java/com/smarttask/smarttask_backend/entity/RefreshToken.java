@@ -31,9 +31,9 @@ public class RefreshToken {
     @JoinColumn(name = "user_id")
     private User user;
 
-    /** The actual token string stored in DB */
-    @Column(nullable = false, length = 500)
-    private String token;
+    /** SHA-256 of the token handed to the client (the raw token is never stored) */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
 
     /** Expiration time */
     @Column(name = "expires_at", nullable = false)
@@ -0,0 +1,64 @@
+package com.smarttask.smarttask_backend.entity;
+
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * WHY: Progress and outcome of one bulk import, readable while the import is still running.
+ * Counters are written by TaskImportLoader in short transactions of their own; see V10.
+ */
+@Entity @Table(name = "task_imports")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class TaskImport {
+
+    public enum Status {
+        LOADING,     // upload being parsed and copied into staging
+        MERGING,     // staged rows being inserted into tasks
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    @UuidGenerator
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10, updatable = false)
+    private TaskExportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "rows_read", nullable = false)
+    private long rowsRead;
+
+    @Column(name = "rows_imported", nullable = false)
+    private long rowsImported;
+
+    @Column(name = "rows_rejected", nullable = false)
+    private long rowsRejected;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @PrePersist
+    void prePersist() {
+        createdAt = Instant.now();
+    }
+}
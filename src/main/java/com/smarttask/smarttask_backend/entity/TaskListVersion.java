@@ -0,0 +1,23 @@
+package com.smarttask.smarttask_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * WHY: Per-user change counter for the task list, bumped in the same transaction as every task write.
+ * GET /api/tasks uses it as its ETag, so unchanged polls are answered without touching the tasks table.
+ * Kept in its own table (not on users) so task writes never lock or dirty the user row.
+ */
+@Entity @Table(name = "task_list_versions")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class TaskListVersion {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private long version;
+}
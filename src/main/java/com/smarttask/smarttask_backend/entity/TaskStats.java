@@ -0,0 +1,44 @@
+package com.smarttask.smarttask_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * WHY: Per-user task counters behind GET /api/tasks/stats.
+ * Written only by the database (triggers on tasks, see V9) and TaskStatsReconciler, so the entity is read-only.
+ */
+@Entity @Table(name = "task_stats")
+@Immutable
+@Getter @NoArgsConstructor
+public class TaskStats {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "todo_count", nullable = false)
+    private long todoCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgressCount;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+
+    @Column(name = "overdue_count", nullable = false)
+    private long overdueCount;
+
+    @Column(name = "due_week_count", nullable = false)
+    private long dueWeekCount;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private Instant refreshedAt;
+}
@@ -2,6 +2,10 @@ package com.smarttask.smarttask_backend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.time.Instant;
@@ -12,8 +16,13 @@ import java.util.UUID;
  * - @Entity maps this class to the "users" table (created by Flyway).
  * - UUID id via @UuidGenerator (modern Hibernate 6+, no deprecated GenericGenerator).
  * - Simple audit with createdAt/updatedAt.
+ * - Second-level cached by id and by username (natural id), see HibernateCacheConfig. Change users through
+ *   the entity or JPQL so Hibernate evicts; native SQL on users must declare the "users" query space.
  */
 @Entity @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-username")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class User {
 
@@ -22,6 +31,7 @@ public class User {
     @Column(nullable = false, updatable = false)
     private UUID id;
 
+    @NaturalId
     @Column(nullable = false, unique = true, length = 80)
     private String username;
 
@@ -0,0 +1,19 @@
+package com.smarttask.smarttask_backend.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Signals that a bounded resource is saturated; mapped to 503 with a Retry-After header.
+ */
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,19 @@
+package com.smarttask.smarttask_backend.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Signals that a caller exceeded a rate limit; mapped to 429 with a Retry-After header.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,37 @@
+package com.smarttask.smarttask_backend.repository;
+
+import com.smarttask.smarttask_backend.entity.JwtSigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    /** Keys still published (upcoming, current and retired ones with live tokens), newest activation first. */
+    @Query("""
+            select k from JwtSigningKey k
+             where k.expiresAt is null or k.expiresAt > :now
+             order by k.activatesAt desc
+            """)
+    List<JwtSigningKey> findPublished(@Param("now") Instant now);
+
+    /** Retires every key a new key with the given activation time supersedes. */
+    @Modifying
+    @Query("""
+            update JwtSigningKey k set k.expiresAt = :expiresAt
+             where k.expiresAt is null and k.activatesAt < :activatesAt
+            """)
+    int retireBefore(@Param("activatesAt") Instant activatesAt, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("delete from JwtSigningKey k where k.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+
+    /** Serializes rotation across instances until the calling transaction ends. */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('jwt_signing_keys'))", nativeQuery = true)
+    int lockForRotation();
+}
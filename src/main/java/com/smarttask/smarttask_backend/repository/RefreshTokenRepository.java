@@ -1,12 +1,43 @@
 package com.smarttask.smarttask_backend.repository;
 
 import com.smarttask.smarttask_backend.entity.RefreshToken;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
-    Optional<RefreshToken> findByTokenAndRevokedFalse(String token);
-    void deleteByUser_Id(UUID userId);
+    /** Single probe on uk_refresh_token_hash; hash with TokenDigest.sha256. The owner is joined in the same query. */
+    @EntityGraph(attributePaths = "user")
+    Optional<RefreshToken> findByTokenHashAndRevokedFalse(byte[] tokenHash);
+
+    /** One DELETE, instead of the derived deleteBy... which loads every token and removes them one by one. */
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Deletes up to {@code limit} revoked or expired tokens in its own short transaction.
+     * SKIP LOCKED leaves rows a concurrent refresh (or another instance's reaper) holds alone.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_tokens"))
+    @Query(value = """
+            DELETE FROM refresh_tokens
+             WHERE id IN (SELECT id FROM refresh_tokens
+                           WHERE revoked OR expires_at < :now
+                           LIMIT :limit
+                           FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteReapable(@Param("now") Instant now, @Param("limit") int limit);
 }
@@ -0,0 +1,21 @@
+package com.smarttask.smarttask_backend.repository;
+
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * WHY: One exported task, filled by a JPQL constructor expression while streaming.
+ * Like TaskView it never becomes a managed entity, so a long export leaves the persistence context empty.
+ */
+public record TaskExportRow(
+        UUID id,
+        String title,
+        String description,
+        TaskStatus status,
+        OffsetDateTime dueDate,
+        Instant createdAt,
+        Instant updatedAt
+) {}
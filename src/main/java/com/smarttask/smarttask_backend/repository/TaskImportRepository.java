@@ -0,0 +1,66 @@
+package com.smarttask.smarttask_backend.repository;
+
+import com.smarttask.smarttask_backend.entity.TaskImport;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskImportRepository extends JpaRepository<TaskImport, UUID> {
+
+    Optional<TaskImport> findByIdAndUserId(UUID id, UUID userId);
+
+    List<TaskImport> findTop20ByUserIdOrderByCreatedAtDesc(UUID userId);
+
+    /**
+     * Publishes progress while the import transaction is still open; commits on its own so pollers see it.
+     * Only touches non-key columns, so it never waits on the import's own locks.
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Modifying
+    @Query("""
+            update TaskImport i set i.status = :status, i.rowsRead = :read, i.rowsRejected = :rejected
+             where i.id = :id
+            """)
+    int progress(@Param("id") UUID id, @Param("status") TaskImport.Status status,
+                 @Param("read") long read, @Param("rejected") long rejected);
+
+    /** Marks the import completed inside the import transaction, so it commits together with the tasks. */
+    @Modifying
+    @Query("""
+            update TaskImport i set i.status = com.smarttask.smarttask_backend.entity.TaskImport.Status.COMPLETED,
+                   i.rowsRead = :read, i.rowsImported = :imported, i.rowsRejected = :rejected, i.finishedAt = :now
+             where i.id = :id
+            """)
+    int complete(@Param("id") UUID id, @Param("read") long read, @Param("imported") long imported,
+                 @Param("rejected") long rejected, @Param("now") Instant now);
+
+    /** Records a failed import after its transaction has rolled back. */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Modifying
+    @Query("""
+            update TaskImport i set i.status = com.smarttask.smarttask_backend.entity.TaskImport.Status.FAILED,
+                   i.rowsImported = 0, i.error = :error, i.finishedAt = :now
+             where i.id = :id
+            """)
+    int fail(@Param("id") UUID id, @Param("error") String error, @Param("now") Instant now);
+
+    @Query(value = """
+            SELECT line_no AS lineNo, error, raw FROM task_import_errors
+             WHERE import_id = :importId
+             ORDER BY line_no
+            """, nativeQuery = true)
+    List<ErrorRow> findErrors(@Param("importId") UUID importId);
+
+    interface ErrorRow {
+        long getLineNo();
+        String getError();
+        String getRaw();
+    }
+}
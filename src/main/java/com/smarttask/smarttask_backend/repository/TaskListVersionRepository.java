@@ -0,0 +1,33 @@
+package com.smarttask.smarttask_backend.repository;
+
+import com.smarttask.smarttask_backend.entity.TaskListVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskListVersionRepository extends JpaRepository<TaskListVersion, UUID> {
+
+    @Query("select v.version from TaskListVersion v where v.userId = :userId")
+    Optional<Long> findVersion(@Param("userId") UUID userId);
+
+    /**
+     * Atomically increments the user's version, creating the row on first write, and returns the new value.
+     * The row lock taken here also orders concurrent writers of the same user.
+     * Not @Modifying: that runs executeUpdate, which returns a row count and loses the RETURNING value.
+     * Like the other native writes it names its table: without that Hibernate assumes a native query touches
+     * everything and flushes the whole session before it; now the task rows are flushed at commit as usual.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_list_versions"))
+    @Query(value = """
+            INSERT INTO task_list_versions (user_id, version) VALUES (:userId, 1)
+            ON CONFLICT (user_id) DO UPDATE SET version = task_list_versions.version + 1
+            RETURNING version
+            """, nativeQuery = true)
+    long bump(@Param("userId") UUID userId);
+}
@@ -3,11 +3,104 @@ package com.smarttask.smarttask_backend.repository;
 import com.smarttask.smarttask_backend.entity.Task;
 import com.smarttask.smarttask_backend.entity.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, UUID> {
-    List<Task> findByUser_IdOrderByCreatedAtDesc(UUID userId);
-    List<Task> findByUser_IdAndStatusOrderByCreatedAtDesc(UUID userId, TaskStatus status);
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
+
+    /**
+     * Owner-scoped set-based status change. Null criteria are ignored; filterIds=false ignores ids.
+     * Keeps the legacy completed flag and updated_at in step the way Task.syncStatusAndCompleted does.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+               set t.status = :newStatus, t.completed = :completed, t.updatedAt = :now
+             where t.user.id = :userId
+               and t.status <> :newStatus
+               and (:status is null or t.status = :status)
+               and (cast(:dueFrom as OffsetDateTime) is null or t.dueDate >= :dueFrom)
+               and (cast(:dueTo as OffsetDateTime) is null or t.dueDate < :dueTo)
+               and (:filterIds = false or t.id in :ids)
+            """)
+    int bulkUpdateStatus(@Param("userId") UUID userId,
+                         @Param("status") TaskStatus status,
+                         @Param("dueFrom") OffsetDateTime dueFrom,
+                         @Param("dueTo") OffsetDateTime dueTo,
+                         @Param("filterIds") boolean filterIds,
+                         @Param("ids") Collection<UUID> ids,
+                         @Param("newStatus") TaskStatus newStatus,
+                         @Param("completed") boolean completed,
+                         @Param("now") Instant now);
+
+    /** Owner-scoped set-based delete with the same filter semantics as bulkUpdateStatus. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from Task t
+             where t.user.id = :userId
+               and (:status is null or t.status = :status)
+               and (cast(:dueFrom as OffsetDateTime) is null or t.dueDate >= :dueFrom)
+               and (cast(:dueTo as OffsetDateTime) is null or t.dueDate < :dueTo)
+               and (:filterIds = false or t.id in :ids)
+            """)
+    int bulkDelete(@Param("userId") UUID userId,
+                   @Param("status") TaskStatus status,
+                   @Param("dueFrom") OffsetDateTime dueFrom,
+                   @Param("dueTo") OffsetDateTime dueTo,
+                   @Param("filterIds") boolean filterIds,
+                   @Param("ids") Collection<UUID> ids);
+
+    /**
+     * All of the user's tasks, oldest first, read through a server-side cursor: inside a transaction
+     * pgjdbc fetches FETCH_SIZE rows per round-trip instead of buffering the whole result.
+     * Close the stream (try-with-resources) before the transaction ends.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.smarttask.smarttask_backend.repository.TaskExportRow(
+                   t.id, t.title, t.description, t.status, t.dueDate, t.createdAt, t.updatedAt)
+              from Task t
+             where t.user.id = :userId
+             order by t.createdAt asc, t.id asc
+            """)
+    Stream<TaskExportRow> streamForExport(@Param("userId") UUID userId);
+
+    /**
+     * Bounds the current transaction only (set_config with is_local, like SET LOCAL): every statement,
+     * each cursor fetch included, and the idle time between them. Postgres ends the session when either
+     * runs out. Values are in milliseconds.
+     */
+    @Query(value = """
+            SELECT set_config('statement_timeout', :statementMs, true)
+                   || ',' || set_config('idle_in_transaction_session_timeout', :idleMs, true)
+            """, nativeQuery = true)
+    String limitTransaction(@Param("statementMs") String statementMs, @Param("idleMs") String idleMs);
+
+    /**
+     * Stamps claimed reminders as sent (reminded_at is not mapped on Task; only the reminder job writes it).
+     * Native writes name their table, or Hibernate evicts every second-level cache region (users) after them.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "UPDATE tasks SET reminded_at = :now WHERE id IN (:ids)", nativeQuery = true)
+    int markReminded(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+    /** Re-arms the reminder after the due date moved. */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "UPDATE tasks SET reminded_at = NULL WHERE id = :taskId", nativeQuery = true)
+    int clearReminder(@Param("taskId") UUID taskId);
 }
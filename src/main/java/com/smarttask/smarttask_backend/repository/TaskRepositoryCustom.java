@@ -0,0 +1,37 @@
+package com.smarttask.smarttask_backend.repository;
+
+import com.smarttask.smarttask_backend.dto.TaskReminder;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * WHY: Keyset pagination needs a handful of query shapes (with/without status, first page/next page,
+ * with/without description). Building them in one place keeps TaskRepository free of near-duplicate @Query methods.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Returns up to {@code limit} tasks of the user ordered by (created_at DESC, id ASC),
+     * strictly after the given keyset position. A null {@code afterCreatedAt} means "first page".
+     * The TEXT description column is only read when {@code includeDescription} is set.
+     */
+    List<TaskView> findPage(UUID userId, TaskStatus status, Instant afterCreatedAt, UUID afterId,
+                            boolean includeDescription, int limit);
+
+    /**
+     * Full-text search over title and description ({@code websearch_to_tsquery} syntax), ranked by
+     * ts_rank_cd and ordered by (rank DESC, id ASC), strictly after the given position.
+     * A null {@code afterRank} means "first page".
+     */
+    List<TaskSearchHit> search(UUID userId, String query, TaskStatus status, Float afterRank, UUID afterId, int limit);
+
+    /**
+     * Locks up to {@code limit} open, not yet reminded tasks due before {@code dueBefore}, earliest first.
+     * Rows locked by another transaction are skipped, not waited for. Must run inside a transaction.
+     */
+    List<TaskReminder> claimDueReminders(OffsetDateTime dueBefore, int limit);
+}
@@ -0,0 +1,128 @@
+package com.smarttask.smarttask_backend.repository;
+
+import com.smarttask.smarttask_backend.dto.TaskReminder;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * WHY: Seek-method pagination into TaskView projections.
+ * The WHERE clause continues from the last (created_at, id) seen, so Postgres walks the
+ * (user_id, [status,] created_at DESC, id) index instead of skipping OFFSET rows.
+ * Search is native SQL because tsvector/tsquery operators have no JPQL form.
+ */
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<TaskView> findPage(UUID userId, TaskStatus status, Instant afterCreatedAt, UUID afterId,
+                                   boolean includeDescription, int limit) {
+        var jpql = new StringBuilder("select new com.smarttask.smarttask_backend.repository.TaskView(")
+                .append("t.id, t.title, ")
+                .append(includeDescription ? "t.description" : "cast(null as String)")
+                .append(", t.status, t.dueDate, t.createdAt) from Task t where t.user.id = :userId");
+        if (status != null) {
+            jpql.append(" and t.status = :status");
+        }
+        if (afterCreatedAt != null) {
+            // The redundant "<=" gives the planner a plain range condition on created_at; the OR alone
+            // only filters, so the index scan would start at the user's newest task on every page.
+            jpql.append(" and t.createdAt <= :afterCreatedAt")
+                    .append(" and (t.createdAt < :afterCreatedAt or (t.createdAt = :afterCreatedAt and t.id > :afterId))");
+        }
+        jpql.append(" order by t.createdAt desc, t.id asc");
+
+        var query = em.createQuery(jpql.toString(), TaskView.class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (afterCreatedAt != null) {
+            query.setParameter("afterCreatedAt", afterCreatedAt)
+                    .setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskSearchHit> search(UUID userId, String query, TaskStatus status, Float afterRank, UUID afterId,
+                                      int limit) {
+        // Matching goes through idx_tasks_user_search (user_id, search_vector); only the owner's hits are ranked.
+        var sql = new StringBuilder("""
+                select * from (
+                  select t.id, t.title, t.description, t.status, t.due_date, t.created_at,
+                         ts_rank_cd(t.search_vector, q) as rank
+                    from tasks t, websearch_to_tsquery('english', :query) q
+                   where t.user_id = :userId and t.search_vector @@ q""");
+        if (status != null) {
+            sql.append(" and t.status = :status");
+        }
+        sql.append(") hits");
+        if (afterRank != null) {
+            // Same shape as the list cursor: a plain bound on rank first, then the tie-break on id.
+            sql.append(" where hits.rank <= :afterRank")
+                    .append(" and (hits.rank < :afterRank or (hits.rank = :afterRank and hits.id > :afterId))");
+        }
+        sql.append(" order by hits.rank desc, hits.id asc");
+
+        var nativeQuery = em.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("title", String.class)
+                .addScalar("description", String.class)
+                .addScalar("status", String.class)
+                .addScalar("due_date", OffsetDateTime.class)
+                .addScalar("created_at", Instant.class)
+                .addScalar("rank", Float.class)
+                .setParameter("query", query)
+                .setParameter("userId", userId)
+                .setMaxResults(limit);
+        if (status != null) {
+            nativeQuery.setParameter("status", status.name());
+        }
+        if (afterRank != null) {
+            nativeQuery.setParameter("afterRank", afterRank)
+                    .setParameter("afterId", afterId);
+        }
+        return ((List<Object[]>) nativeQuery.getResultList()).stream()
+                .map(row -> new TaskSearchHit(
+                        new TaskView((UUID) row[0], (String) row[1], (String) row[2], TaskStatus.valueOf((String) row[3]),
+                                (OffsetDateTime) row[4], (Instant) row[5]),
+                        (Float) row[6]))
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskReminder> claimDueReminders(OffsetDateTime dueBefore, int limit) {
+        // Conditions mirror the idx_tasks_reminder_due predicate so the partial index serves the scan and order.
+        var nativeQuery = em.createNativeQuery("""
+                        select t.id, t.user_id, t.title, t.due_date
+                          from tasks t
+                         where t.reminded_at is null and t.due_date is not null and t.status <> 'DONE'
+                           and t.due_date <= :dueBefore
+                         order by t.due_date
+                         limit :limit
+                           for update skip locked""")
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("user_id", UUID.class)
+                .addScalar("title", String.class)
+                .addScalar("due_date", OffsetDateTime.class)
+                .setParameter("dueBefore", dueBefore)
+                .setParameter("limit", limit);
+        return ((List<Object[]>) nativeQuery.getResultList()).stream()
+                .map(row -> new TaskReminder((UUID) row[0], (UUID) row[1], (String) row[2], (OffsetDateTime) row[3]))
+                .toList();
+    }
+}
@@ -0,0 +1,4 @@
+package com.smarttask.smarttask_backend.repository;
+
+/** One full-text match: the task projection plus its ts_rank_cd score (also the keyset position). */
+public record TaskSearchHit(TaskView task, float rank) {}
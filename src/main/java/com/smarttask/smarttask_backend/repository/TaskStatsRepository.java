@@ -0,0 +1,52 @@
+package com.smarttask.smarttask_backend.repository;
+
+import com.smarttask.smarttask_backend.entity.TaskStats;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface TaskStatsRepository extends JpaRepository<TaskStats, UUID> {
+
+    /**
+     * Recomputes from the tasks table the counters of up to {@code limit} users last refreshed before
+     * {@code before}, oldest first. Rows locked by a concurrent task write are skipped and picked up by a
+     * later run. The final SELECT sees the pre-update snapshot, so drifted compares old counts to new ones.
+     */
+    @Transactional
+    @Query(value = """
+            WITH batch AS (
+              SELECT user_id FROM task_stats WHERE refreshed_at < :before
+               ORDER BY refreshed_at LIMIT :limit FOR UPDATE SKIP LOCKED
+            ), fresh AS (
+              SELECT b.user_id,
+                     count(t.id) FILTER (WHERE t.status = 'TODO') AS todo,
+                     count(t.id) FILTER (WHERE t.status = 'IN_PROGRESS') AS in_progress,
+                     count(t.id) FILTER (WHERE t.status = 'DONE') AS done,
+                     count(t.id) FILTER (WHERE t.status <> 'DONE' AND t.due_date < now()) AS overdue,
+                     count(t.id) FILTER (WHERE t.status <> 'DONE' AND t.due_date >= now()
+                                           AND t.due_date < now() + interval '7 days') AS due_week
+                FROM batch b LEFT JOIN tasks t ON t.user_id = b.user_id
+               GROUP BY b.user_id
+            ), updated AS (
+              UPDATE task_stats s
+                 SET todo_count = f.todo, in_progress_count = f.in_progress, done_count = f.done,
+                     overdue_count = f.overdue, due_week_count = f.due_week, refreshed_at = now()
+                FROM fresh f
+               WHERE s.user_id = f.user_id
+            )
+            SELECT count(*) AS checked,
+                   count(*) FILTER (WHERE (s.todo_count, s.in_progress_count, s.done_count)
+                                          IS DISTINCT FROM (f.todo, f.in_progress, f.done)) AS drifted
+              FROM task_stats s JOIN fresh f ON f.user_id = s.user_id
+            """, nativeQuery = true)
+    ReconcileResult reconcileOldest(@Param("before") Instant before, @Param("limit") int limit);
+
+    interface ReconcileResult {
+        long getChecked();
+        long getDrifted();
+    }
+}
@@ -0,0 +1,22 @@
+package com.smarttask.smarttask_backend.repository;
+
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * WHY: Read-only projection of a task, filled by a JPQL constructor expression.
+ * Rows never become managed entities, and description is only selected when the caller asks for it.
+ *
+ * @param description null when the query skipped the column
+ */
+public record TaskView(
+        UUID id,
+        String title,
+        String description,
+        TaskStatus status,
+        OffsetDateTime dueDate,
+        Instant createdAt
+) {}
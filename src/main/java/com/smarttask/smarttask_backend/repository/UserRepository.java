@@ -3,12 +3,9 @@ package com.smarttask.smarttask_backend.repository;
 import com.smarttask.smarttask_backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
 import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByUsername(String username);
-    Optional<User> findByUsernameAndDeletedFalse(String username);
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 }
\ No newline at end of file
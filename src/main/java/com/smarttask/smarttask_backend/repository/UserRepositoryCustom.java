@@ -0,0 +1,14 @@
+package com.smarttask.smarttask_backend.repository;
+
+import com.smarttask.smarttask_backend.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Looks the user up by username (the natural id). Served from the second-level cache once the user
+     * has been loaded or saved on this instance, without any SQL; a derived query would always hit the table.
+     */
+    Optional<User> findByNaturalUsername(String username);
+}
@@ -0,0 +1,22 @@
+package com.smarttask.smarttask_backend.repository;
+
+import com.smarttask.smarttask_backend.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/** WHY: Natural-id loads have no Spring Data query form; they go through the Hibernate Session. */
+class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional   // the Session must outlive unwrap(); outside a transaction the shared one is closed at once
+    public Optional<User> findByNaturalUsername(String username) {
+        return em.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(username);
+    }
+}
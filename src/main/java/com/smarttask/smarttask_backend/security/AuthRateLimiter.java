@@ -0,0 +1,85 @@
+package com.smarttask.smarttask_backend.security;
+
+import com.smarttask.smarttask_backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * WHY: Login and refresh are public, so credential-stuffing bursts would otherwise turn straight into
+ * BCrypt work and users-table reads. Calls are checked here, in the controller, before AuthService runs:
+ * - login: per client IP and per username
+ * - refresh: per client IP
+ * Over-limit calls raise TooManyRequestsException (429 + Retry-After) and count in auth.rate.limited.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketLimiter loginByIp;
+    private final TokenBucketLimiter loginByUsername;
+    private final TokenBucketLimiter refreshByIp;
+    private final Counter loginLimited;
+    private final Counter refreshLimited;
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${security.rate-limit.enabled:true}") boolean enabled,
+            @Value("${security.rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${security.rate-limit.login.per-ip.capacity:20}") long loginIpCapacity,
+            @Value("${security.rate-limit.login.per-ip.refill-per-minute:10}") long loginIpRefill,
+            @Value("${security.rate-limit.login.per-username.capacity:5}") long loginUserCapacity,
+            @Value("${security.rate-limit.login.per-username.refill-per-minute:5}") long loginUserRefill,
+            @Value("${security.rate-limit.refresh.per-ip.capacity:30}") long refreshIpCapacity,
+            @Value("${security.rate-limit.refresh.per-ip.refill-per-minute:30}") long refreshIpRefill
+    ) {
+        this.enabled = enabled;
+        this.loginByIp = new TokenBucketLimiter(loginIpCapacity, loginIpRefill, maxKeys);
+        this.loginByUsername = new TokenBucketLimiter(loginUserCapacity, loginUserRefill, maxKeys);
+        this.refreshByIp = new TokenBucketLimiter(refreshIpCapacity, refreshIpRefill, maxKeys);
+        this.loginLimited = Counter.builder("auth.rate.limited").tag("endpoint", "login")
+                .description("Auth calls rejected by the rate limiter").register(meterRegistry);
+        this.refreshLimited = Counter.builder("auth.rate.limited").tag("endpoint", "refresh")
+                .description("Auth calls rejected by the rate limiter").register(meterRegistry);
+        Gauge.builder("auth.rate.keys", this, l -> l.loginByIp.size() + l.loginByUsername.size() + l.refreshByIp.size())
+                .description("Rate-limit buckets currently tracked").register(meterRegistry);
+    }
+
+    public void checkLogin(String clientIp, String username) {
+        if (!enabled) {
+            return;
+        }
+        long wait = loginByIp.tryAcquire(clientIp);
+        if (wait == 0 && username != null) {
+            wait = loginByUsername.tryAcquire(username.trim());
+        }
+        reject(wait, loginLimited);
+    }
+
+    public void checkRefresh(String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        reject(refreshByIp.tryAcquire(clientIp), refreshLimited);
+    }
+
+    /** Drops buckets that have refilled completely, keeping memory proportional to recent callers. */
+    @Scheduled(fixedDelayString = "${security.rate-limit.sweep-interval:PT1M}")
+    public void evictIdle() {
+        loginByIp.evictIdle();
+        loginByUsername.evictIdle();
+        refreshByIp.evictIdle();
+    }
+
+    private static void reject(long waitNanos, Counter counter) {
+        if (waitNanos > 0) {
+            counter.increment();
+            throw new TooManyRequestsException("Too many attempts, please retry later", Duration.ofNanos(waitNanos));
+        }
+    }
+}
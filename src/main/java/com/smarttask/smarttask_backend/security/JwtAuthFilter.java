@@ -1,18 +1,17 @@
 package com.smarttask.smarttask_backend.security;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import com.smarttask.smarttask_backend.service.UserDetailsServiceImpl;
-import io.jsonwebtoken.Claims;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -21,24 +20,44 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ✅ JwtAuthFilter
  * - Intercepts each request once (OncePerRequestFilter)
  * - Extracts and validates JWT from Authorization header
+ * - Resolves the user by the token's uid claim through PrincipalCache (no DB hit on a cache hit)
  * - Sets the authenticated user in SecurityContext
  * - Skips Swagger and public endpoints
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
+    // One timer per outcome, registered up front so the request path never looks meters up.
+    private final Timer verifiedTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
     @Value("${swagger.auth.username}")
     private String swaggerUsername;
 
+    public JwtAuthFilter(JwtService jwtService, PrincipalCache principalCache, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.principalCache = principalCache;
+        this.verifiedTimer = verifyTimer(meterRegistry, "valid");
+        this.expiredTimer = verifyTimer(meterRegistry, "expired");
+        this.invalidTimer = verifyTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer verifyTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("auth.jwt.verify")
+                .description("JWT verification (signature check or verified-token cache hit)")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -63,30 +82,29 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String jwt = authHeader.substring(7);
 
         try {
-            Claims claims = jwtService.getClaims(jwt);
-            String username = claims.getSubject();
+            VerifiedToken token = verify(jwt);
+            String username = token.subject();
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 if (isSwaggerToken(username)) {
-                    if (!jwtService.isTokenExpired(jwt)) {
-                        UsernamePasswordAuthenticationToken authToken =
-                                new UsernamePasswordAuthenticationToken(
-                                        username,
-                                        null,
-                                        buildSwaggerAuthorities(claims));
-                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
-                        log.debug("✅ Authenticated Swagger user");
-                    } else {
-                        log.warn("⚠️ Swagger JWT token expired");
-                    }
+                    UsernamePasswordAuthenticationToken authToken =
+                            new UsernamePasswordAuthenticationToken(
+                                    username,
+                                    null,
+                                    buildSwaggerAuthorities(token));
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                    log.debug("✅ Authenticated Swagger user");
                 } else {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                    if (token.uid() == null) {
+                        throw new UsernameNotFoundException("Token has no uid claim");
+                    }
+                    UserPrincipal principal = principalCache.get(token.uid());
 
-                    if (jwtService.isTokenValid(jwt, userDetails)) {
+                    if (username.equals(principal.getUsername())) {
                         UsernamePasswordAuthenticationToken authToken =
                                 new UsernamePasswordAuthenticationToken(
-                                        userDetails, null, userDetails.getAuthorities());
+                                        principal, null, principal.getAuthorities());
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                         SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -105,6 +123,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /** One signature check, or a cache hit; timed by outcome. */
+    private VerifiedToken verify(String jwt) {
+        long started = System.nanoTime();
+        Timer timer = invalidTimer;
+        try {
+            VerifiedToken token = jwtService.verify(jwt);
+            timer = verifiedTimer;
+            return token;
+        } catch (ExpiredJwtException e) {
+            timer = expiredTimer;
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
     /**
      * Helper to identify routes that don’t need JWT authentication.
      */
@@ -117,15 +151,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 path.startsWith("/v1/api-docs") ||
                 path.startsWith("/v3/api-docs") ||
                 path.startsWith("/error") ||
-                path.startsWith("/actuator/health");
+                path.startsWith("/actuator/health") ||
+                path.startsWith("/.well-known/jwks.json");
     }
 
     private boolean isSwaggerToken(String username) {
         return swaggerUsername != null && swaggerUsername.equals(username);
     }
 
-    private Collection<SimpleGrantedAuthority> buildSwaggerAuthorities(Claims claims) {
-        String role = claims.get("role", String.class);
+    private Collection<SimpleGrantedAuthority> buildSwaggerAuthorities(VerifiedToken token) {
+        String role = token.role();
         if (role == null || role.isBlank()) {
             role = "SWAGGER_ADMIN";
         }
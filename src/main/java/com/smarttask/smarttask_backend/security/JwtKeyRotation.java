@@ -0,0 +1,99 @@
+package com.smarttask.smarttask_backend.security;
+
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * WHY: Keeps JwtService's asymmetric keys current (security.jwt.algorithm = ES256 / EdDSA).
+ * - Every check-interval each instance rotates if due (JwtKeyStore serializes instances) and reloads the
+ *   published keys, so all instances sign with the same key and know every kid in circulation.
+ * - Overlap: a new key is published publish-ahead before it signs, so JWKS caches (jwks-max-age) and the
+ *   other instances have it first; the key it replaces stays published until its last access token expires.
+ * - The first key after switching from HS256 is published ahead the same way; tokens are signed with HS256
+ *   until it activates, which needs accept-hmac. With accept-hmac off, startup fails until a key can sign.
+ * - If the database is unavailable the loaded keys stay in use; a failure at startup stops the application.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${security.jwt.algorithm:HS256}' != 'HS256'")
+public class JwtKeyRotation {
+
+    // Margin on top of the access token lifetime for clocks that run behind.
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final JwtKeyStore store;
+    private final JwtService jwtService;
+    private final SignatureAlgorithm algorithm;
+    private final Duration rotationInterval;
+    private final Duration publishAhead;
+    private final Duration tokenLifetime;
+    private final boolean acceptHmac;
+
+    public JwtKeyRotation(
+            JwtKeyStore store,
+            JwtService jwtService,
+            @Value("${security.jwt.algorithm}") String algorithm,
+            @Value("${security.jwt.keys.rotation-interval:P30D}") Duration rotationInterval,
+            @Value("${security.jwt.keys.publish-ahead:PT1H}") Duration publishAhead,
+            @Value("${security.jwt.keys.check-interval:PT1M}") Duration checkInterval,
+            @Value("${security.jwt.keys.jwks-max-age:PT15M}") Duration jwksMaxAge,
+            @Value("${security.jwt.access-exp-min}") long accessExpMin,
+            @Value("${security.jwt.accept-hmac:true}") boolean acceptHmac
+    ) {
+        if (publishAhead.compareTo(checkInterval.plus(jwksMaxAge)) <= 0) {
+            throw new IllegalStateException(
+                    "security.jwt.keys.publish-ahead must exceed check-interval + jwks-max-age");
+        }
+        if (rotationInterval.compareTo(publishAhead) <= 0) {
+            throw new IllegalStateException("security.jwt.keys.rotation-interval must exceed publish-ahead");
+        }
+        this.store = store;
+        this.jwtService = jwtService;
+        this.algorithm = JwtKeyStore.algorithm(algorithm);
+        this.rotationInterval = rotationInterval;
+        this.publishAhead = publishAhead;
+        this.tokenLifetime = Duration.ofMinutes(accessExpMin).plus(CLOCK_SKEW);
+        this.acceptHmac = acceptHmac;
+    }
+
+    @PostConstruct
+    void init() {
+        Instant now = Instant.now();
+        var keys = refresh(now);
+        if (!acceptHmac && keys.stream().noneMatch(k -> k.canSign(now))) {
+            throw new IllegalStateException("No JWT signing key is active yet (the first one signs from "
+                    + keys.stream().map(SigningKey::activatesAt).min(Instant::compareTo).orElseThrow()
+                    + ") and security.jwt.accept-hmac is off; keep it on while switching from HS256");
+        }
+    }
+
+    @Scheduled(initialDelayString = "${security.jwt.keys.check-interval:PT1M}",
+            fixedDelayString = "${security.jwt.keys.check-interval:PT1M}")
+    public void scheduledRefresh() {
+        try {
+            refresh(Instant.now());
+        } catch (RuntimeException e) {
+            log.error("❌ JWT key rotation failed, keeping the loaded keys: {}", e.getMessage());
+        }
+    }
+
+    private List<SigningKey> refresh(Instant now) {
+        var created = store.rotate(algorithm, now, rotationInterval, publishAhead, tokenLifetime);
+        if (created != null) {
+            log.info("🔑 New {} signing key {} published, signs from {}",
+                    created.getAlgorithm(), created.getKid(), created.getActivatesAt());
+        }
+        var keys = store.load(now);
+        jwtService.useKeys(keys);
+        return keys;
+    }
+}
@@ -0,0 +1,172 @@
+package com.smarttask.smarttask_backend.security;
+
+import com.smarttask.smarttask_backend.entity.JwtSigningKey;
+import com.smarttask.smarttask_backend.repository.JwtSigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * WHY: Persists the asymmetric signing keys in jwt_signing_keys so every instance signs and verifies with
+ * the same set and keys survive restarts. Private keys are encrypted with AES-GCM under a key derived
+ * from security.jwt.secret (the kid is authenticated with it), so a database dump alone cannot sign tokens.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${security.jwt.algorithm:HS256}' != 'HS256'")
+public class JwtKeyStore {
+
+    private static final int NONCE_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final JwtSigningKeyRepository keyRepo;
+    private final SecretKeySpec encryptionKey;
+    private final SecureRandom random = new SecureRandom();
+
+    public JwtKeyStore(JwtSigningKeyRepository keyRepo, @Value("${security.jwt.secret}") String rawSecret) {
+        this.keyRepo = keyRepo;
+        this.encryptionKey = deriveEncryptionKey(Decoders.BASE64.decode(rawSecret.replaceAll("\\s+", "")));
+    }
+
+    /** ES256 or EdDSA (Ed25519). */
+    static SignatureAlgorithm algorithm(String id) {
+        return switch (id) {
+            case "ES256" -> Jwts.SIG.ES256;
+            case "EdDSA" -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalArgumentException(
+                    "Unsupported security.jwt.algorithm: " + id + " (expected HS256, ES256 or EdDSA)");
+        };
+    }
+
+    /**
+     * Creates the next key when one is due, under a lock shared by all instances, and deletes keys whose
+     * tokens have all expired. A new key activates publishAhead from now, the very first one too (JwtService
+     * signs with HS256 until then), and the keys it supersedes expire tokenLifetime after that.
+     * @return the new key, or null if none was due
+     */
+    @Transactional
+    public JwtSigningKey rotate(SignatureAlgorithm algorithm, Instant now, Duration rotationInterval,
+                                Duration publishAhead, Duration tokenLifetime) {
+        keyRepo.lockForRotation();
+        keyRepo.deleteExpired(now);
+        var published = keyRepo.findPublished(now);
+        if (!published.isEmpty()) {
+            // Due publishAhead before the newest key has signed for rotationInterval, or when the algorithm changed.
+            var newest = published.get(0);
+            Instant due = newest.getActivatesAt().plus(rotationInterval).minus(publishAhead);
+            if (newest.getAlgorithm().equals(algorithm.getId()) && now.isBefore(due)) {
+                return null;
+            }
+        }
+        Instant activatesAt = now.plus(publishAhead);
+
+        KeyPair pair = generate(algorithm);
+        String kid = Jwks.builder().key(pair.getPublic()).idFromThumbprint().build().getId();
+        var key = keyRepo.save(JwtSigningKey.builder()
+                .kid(kid)
+                .algorithm(algorithm.getId())
+                .publicKey(pair.getPublic().getEncoded())
+                .privateKey(encrypt(kid, pair.getPrivate().getEncoded()))
+                .createdAt(now)
+                .activatesAt(activatesAt)
+                .build());
+        keyRepo.retireBefore(activatesAt, activatesAt.plus(tokenLifetime));
+        return key;
+    }
+
+    /** Every published key, decoded; newest activation first. */
+    public List<SigningKey> load(Instant now) {
+        return keyRepo.findPublished(now).stream().map(this::decode).toList();
+    }
+
+    private SigningKey decode(JwtSigningKey row) {
+        try {
+            var keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm(row.getAlgorithm()));
+            var publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(row.getPublicKey()));
+            PrivateKey privateKey = null;
+            try {
+                privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decrypt(row.getKid(), row.getPrivateKey())));
+            } catch (GeneralSecurityException e) {
+                log.warn("⚠️ JWT signing key {} cannot be decrypted (was security.jwt.secret changed?); "
+                        + "it only verifies", row.getKid());
+            }
+            return new SigningKey(row.getKid(), algorithm(row.getAlgorithm()), publicKey, privateKey,
+                    row.getActivatesAt());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT signing key " + row.getKid(), e);
+        }
+    }
+
+    private static KeyPair generate(SignatureAlgorithm algorithm) {
+        try {
+            return switch (algorithm.getId()) {
+                case "ES256" -> Jwts.SIG.ES256.keyPair().build();
+                case "EdDSA" -> KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+                default -> throw new IllegalArgumentException("Unsupported algorithm " + algorithm.getId());
+            };
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate a " + algorithm.getId() + " key", e);
+        }
+    }
+
+    private static String keyFactoryAlgorithm(String algorithm) {
+        return "ES256".equals(algorithm) ? "EC" : "Ed25519";
+    }
+
+    private byte[] encrypt(String kid, byte[] plain) {
+        try {
+            byte[] nonce = new byte[NONCE_BYTES];
+            random.nextBytes(nonce);
+            var cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, nonce));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = cipher.doFinal(plain);
+            byte[] out = Arrays.copyOf(nonce, NONCE_BYTES + sealed.length);
+            System.arraycopy(sealed, 0, out, NONCE_BYTES, sealed.length);
+            return out;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot encrypt JWT signing key", e);
+        }
+    }
+
+    private byte[] decrypt(String kid, byte[] stored) throws GeneralSecurityException {
+        var cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, stored, 0, NONCE_BYTES));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+        return cipher.doFinal(stored, NONCE_BYTES, stored.length - NONCE_BYTES);
+    }
+
+    private static SecretKeySpec deriveEncryptionKey(byte[] secret) {
+        try {
+            var mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return new SecretKeySpec(mac.doFinal("smarttask jwt signing key encryption".getBytes(StandardCharsets.UTF_8)), "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot derive the JWT key encryption key", e);
+        }
+    }
+}
@@ -1,34 +1,68 @@
 package com.smarttask.smarttask_backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Jwks;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * JWT Utility Service for token generation and validation.
  * Handles both app user tokens and Swagger tokens.
+ *
+ * Verification uses one prebuilt parser (JJWT parsers are immutable and thread-safe) and remembers
+ * verified tokens by SHA-256 digest until they expire, so a client re-sending the same bearer token
+ * skips the HMAC check and JSON parse entirely.
+ *
+ * With security.jwt.algorithm = ES256 / EdDSA, tokens are signed with the current asymmetric key and carry
+ * its "kid"; JwtKeyRotation hands over the published keys (useKeys), and verification picks the public key
+ * by kid from memory. Tokens without a kid are HS256 tokens, accepted while security.jwt.accept-hmac is on.
  */
 @Service
 public class JwtService {
 
+    private record KeySet(List<SigningKey> newestFirst, Map<String, SigningKey> byKid, String jwks) {
+        static final KeySet EMPTY = new KeySet(List.of(), Map.of(), "{\"keys\":[]}");
+    }
+
     private final SecretKey key;
+    private final boolean acceptHmac;
+    private volatile KeySet keySet = KeySet.EMPTY;
     private final String issuer;
     private final long accessExpMin;
     private final long refreshExpDays;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtService(
             @Value("${security.jwt.secret}") String rawSecret,
             @Value("${security.jwt.issuer}") String issuer,
             @Value("${security.jwt.access-exp-min}") long accessExpMin,
-            @Value("${security.jwt.refresh-exp-days}") long refreshExpDays
+            @Value("${security.jwt.refresh-exp-days}") long refreshExpDays,
+            @Value("${security.jwt.verified-cache-size:10000}") long verifiedCacheSize,
+            @Value("${security.jwt.accept-hmac:true}") boolean acceptHmac
     ) {
         try {
             if (rawSecret == null || rawSecret.isBlank()) {
@@ -41,6 +75,18 @@ public class JwtService {
             this.issuer = issuer;
             this.accessExpMin = accessExpMin;
             this.refreshExpDays = refreshExpDays;
+            this.acceptHmac = acceptHmac;
+            this.parser = Jwts.parser().keyLocator(new LocatorAdapter<Key>() {
+                @Override
+                protected Key locate(JwsHeader header) {
+                    return verificationKey(header);
+                }
+            }).build();
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheSize)
+                    .expireAfter(Expiry.<String, VerifiedToken>creating((digest, token) ->
+                            Duration.between(Instant.now(), token.expiresAt())))
+                    .build();
 
             System.out.println("✅ JwtService initialized successfully: issuer=" + issuer);
 
@@ -51,63 +97,118 @@ public class JwtService {
 
     // ✅ Primary access token generator for app users
     public String generateAccessToken(String subject, Map<String, Object> claims) {
-        return Jwts.builder()
+        return sign(Jwts.builder()
                 .claims(claims)
                 .subject(subject)
                 .issuer(issuer)
                 .issuedAt(Date.from(Instant.now()))
-                .expiration(Date.from(Instant.now().plusSeconds(accessExpMin * 60)))
-                .signWith(key)
-                .compact();
+                .expiration(Date.from(Instant.now().plusSeconds(accessExpMin * 60))));
     }
 
     // ✅ For refresh tokens
     public String generateRefreshToken(String subject) {
-        return Jwts.builder()
+        return sign(Jwts.builder()
                 .subject(subject)
                 .issuer(issuer)
                 .issuedAt(Date.from(Instant.now()))
-                .expiration(Date.from(Instant.now().plusSeconds(refreshExpDays * 24 * 60 * 60)))
-                .signWith(key)
-                .compact();
+                .expiration(Date.from(Instant.now().plusSeconds(refreshExpDays * 24 * 60 * 60))));
     }
 
     // ✅ For Swagger (or any simplified token without user claims)
     public String generateToken(String subject, Map<String, Object> claims) {
-        return Jwts.builder()
+        return sign(Jwts.builder()
                 .claims(claims)
                 .subject(subject)
                 .issuer(issuer)
                 .issuedAt(Date.from(Instant.now()))
-                .expiration(Date.from(Instant.now().plusSeconds(accessExpMin * 60)))
-                .signWith(key)
-                .compact();
+                .expiration(Date.from(Instant.now().plusSeconds(accessExpMin * 60))));
     }
 
-    // ✅ Validation + decoding methods
-    public String getSubject(String token) {
-        return Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    /**
+     * Replaces the asymmetric keys (JwtKeyRotation): every published key verifies, the newest activated one
+     * signs. Signing falls back to HS256 only while no key is loaded.
+     */
+    public void useKeys(List<SigningKey> newestFirst) {
+        String jwks = newestFirst.stream()
+                .map(k -> Jwks.json(Jwks.builder().key(k.publicKey())
+                        .id(k.kid())
+                        .algorithm(k.algorithm().getId())
+                        .publicKeyUse("sig")
+                        .build()))
+                .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+        keySet = new KeySet(List.copyOf(newestFirst),
+                newestFirst.stream().collect(Collectors.toUnmodifiableMap(SigningKey::kid, Function.identity())),
+                jwks);
     }
 
-    public Claims getClaims(String token) {
-        return Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /** JSON Web Key Set of the published public keys, for /.well-known/jwks.json. */
+    public String jwks() {
+        return keySet.jwks();
+    }
+
+    private String sign(JwtBuilder builder) {
+        Instant now = Instant.now();
+        for (SigningKey k : keySet.newestFirst()) {
+            if (k.canSign(now)) {
+                return builder.header().keyId(k.kid()).and()
+                        .signWith(k.privateKey(), k.algorithm())
+                        .compact();
+            }
+        }
+        if (!acceptHmac) {
+            throw new IllegalStateException("No JWT signing key loaded and security.jwt.accept-hmac is off");
+        }
+        return builder.signWith(key).compact();
     }
 
-    public boolean isTokenValid(String token, org.springframework.security.core.userdetails.UserDetails user) {
-        String username = getSubject(token);
-        return username.equals(user.getUsername()) && !isTokenExpired(token);
+    /** Key for the token's kid from memory; no kid means HS256 with the shared secret. */
+    private Key verificationKey(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (!acceptHmac) {
+                throw new UnsupportedJwtException("Token has no key id");
+            }
+            return key;
+        }
+        SigningKey k = keySet.byKid().get(kid);
+        if (k == null || !k.algorithm().getId().equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Unknown signing key");
+        }
+        return k.publicKey();
+    }
+
+    // ✅ Validation + decoding methods
+
+    /**
+     * Verifies signature and expiry once and returns the decoded token.
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        Instant now = Instant.now();
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedTokens.invalidate(digest);
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        VerifiedToken verified = VerifiedToken.from(claims);
+        if (verified.isExpired(now)) {
+            // JJWT rejects expired tokens already; this covers a missing "exp" claim.
+            throw new ExpiredJwtException(null, claims, "JWT has no valid expiration");
+        }
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
+
+    public Claims getClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    public boolean isTokenExpired(String token) {
-        Date exp = Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration();
-        return exp.before(new Date());
+    private static String digest(String token) {
+        return HexFormat.of().formatHex(TokenDigest.sha256(token));
     }
 }
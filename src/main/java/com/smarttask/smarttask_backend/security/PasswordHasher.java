@@ -0,0 +1,124 @@
+package com.smarttask.smarttask_backend.security;
+
+import com.smarttask.smarttask_backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WHY:
+ * - BCrypt is tens of milliseconds of pure CPU per call. Running it on request threads lets a burst
+ *   of logins occupy every Tomcat thread and starve cheap reads.
+ * - Hashing runs on a pool sized to the cores with a bounded queue. Callers still block on their result,
+ *   so the queue is what bounds the request threads tied up in hashing: by default it holds half of
+ *   server.tomcat.threads.max (running jobs included), leaving the other half for everything else.
+ * - Once the queue is full, or a caller has waited max-wait, they fail fast with ServiceBusyException
+ *   (503 + Retry-After) instead.
+ * - Metrics: auth.password.hash (latency, tag op), auth.password.hash.queue, auth.password.hash.rejected.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+    private final Duration maxWait;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(
+            PasswordEncoder encoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.hash-threads:0}") int threads,
+            @Value("${security.password.hash-queue:0}") int queueCapacity,
+            @Value("${server.tomcat.threads.max:200}") int requestThreads,
+            @Value("${security.password.max-wait:PT2S}") Duration maxWait,
+            @Value("${security.password.retry-after:PT1S}") Duration retryAfter
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        if (queueCapacity <= 0) {
+            queueCapacity = Math.max(1, requestThreads / 2 - poolSize);
+        }
+        AtomicInteger seq = new AtomicInteger();
+        this.encoder = encoder;
+        this.retryAfter = retryAfter;
+        this.maxWait = maxWait;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> Thread.ofPlatform().name("password-hash-" + seq.incrementAndGet()).daemon().unstarted(r),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("op", "encode")
+                .description("Time spent hashing or verifying a password").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("op", "matches")
+                .description("Time spent hashing or verifying a password").register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hash.rejected")
+                .description("Password hashing requests refused: queue full or max-wait exceeded").register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting for a thread").register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encoder.encode(rawPassword), encodeTimer);
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> encoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    /** True when the stored hash was made with an older cost than the configured one (cheap, no hashing). */
+    public boolean needsRehash(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> work, Timer timer) {
+        Future<T> result;
+        try {
+            result = executor.submit(() -> timer.recordCallable(work));
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            return result.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(false);   // a running hash just finishes
+            executor.purge();       // a queued one gives its slot back now, not when a thread reaches it
+            throw busy();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private ServiceBusyException busy() {
+        rejected.increment();
+        return new ServiceBusyException("Too many sign-in requests, please retry shortly", retryAfter);
+    }
+}
@@ -0,0 +1,73 @@
+package com.smarttask.smarttask_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smarttask.smarttask_backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * WHY:
+ * - JwtAuthFilter used to load the user row on every authenticated request.
+ * - Principals are cached by the token's "uid" claim, bounded in size and expired after a short TTL,
+ *   so changes made outside this instance are picked up within ttl-seconds.
+ * - Code paths that change a user (logout, disable, delete) call {@link #evict(UUID)} explicitly.
+ * - Hit/miss/eviction counters are published as "cache.*{cache=principals}" meters,
+ *   explicit evictions as "principal.cache.invalidations".
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepo;
+    private final Cache<UUID, UserPrincipal> cache;
+    private final Counter invalidations;
+
+    public PrincipalCache(
+            UserRepository userRepo,
+            MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.userRepo = userRepo;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("principal.cache.invalidations")
+                .description("Principals evicted explicitly after a user change")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * Returns the cached principal, loading it from the users table on a miss.
+     * The load runs outside the cache's compute lock on purpose: Caffeine computes inside
+     * ConcurrentHashMap bin locks (synchronized), and a JDBC call there would pin a virtual thread.
+     * Concurrent misses for one user may both query; the last put wins with identical data.
+     */
+    public UserPrincipal get(UUID userId) {
+        UserPrincipal principal = cache.getIfPresent(userId);
+        if (principal != null) {
+            return principal;
+        }
+        principal = userRepo.findById(userId)
+                .filter(u -> !u.isDeleted())
+                .map(UserPrincipal::from)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        cache.put(userId, principal);
+        return principal;
+    }
+
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+        invalidations.increment();
+    }
+}
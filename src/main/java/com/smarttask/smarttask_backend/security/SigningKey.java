@@ -0,0 +1,25 @@
+package com.smarttask.smarttask_backend.security;
+
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Instant;
+
+/**
+ * WHY: Decoded form of a jwt_signing_keys row, as JwtService uses it for signing and verification.
+ *
+ * @param privateKey null if it could not be decrypted (security.jwt.secret changed); such a key only verifies
+ */
+public record SigningKey(
+        String kid,
+        SignatureAlgorithm algorithm,
+        PublicKey publicKey,
+        PrivateKey privateKey,
+        Instant activatesAt
+) {
+
+    public boolean canSign(Instant now) {
+        return privateKey != null && !activatesAt.isAfter(now);
+    }
+}
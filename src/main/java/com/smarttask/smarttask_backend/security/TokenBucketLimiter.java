@@ -0,0 +1,91 @@
+package com.smarttask.smarttask_backend.security;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WHY: Per-key token bucket that is cheap enough to sit in front of every login and refresh.
+ * - Each bucket is one AtomicLong holding the GCRA "theoretical arrival time"; acquiring is a map read
+ *   plus a single CAS, no locks. A bucket admits {@code capacity} calls at once and refills
+ *   {@code refillPerMinute}.
+ * - evictIdle() (run on a schedule) drops buckets that have fully refilled. Such a bucket behaves exactly
+ *   like a new one, so dropping it never hands out extra tokens.
+ * - At most {@code maxKeys} buckets are kept. When full, a new key triggers an eviction pass over at most
+ *   INLINE_EVICT_LIMIT buckets, so a flood of new keys costs a bounded amount each instead of a scan of
+ *   the whole map. If that frees nothing, the call is charged to one shared overflow bucket (same capacity
+ *   and refill): spraying new usernames or addresses can fill the map but never switches limiting off,
+ *   at worst new keys share one bucket until the scheduled evictIdle() makes room again.
+ */
+public final class TokenBucketLimiter {
+
+    private static final int INLINE_EVICT_LIMIT = 64;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucketLimiter(long capacity, long refillPerMinute, long maxKeys) {
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("capacity and refillPerMinute must be positive");
+        }
+        this.intervalNanos = Math.max(1, Duration.ofMinutes(1).toNanos() / refillPerMinute);
+        this.burstNanos = (capacity - 1) * intervalNanos;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Takes one token for {@code key}.
+     * @return 0 when the call is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            if (buckets.size() >= maxKeys && evictIdle(now, INLINE_EVICT_LIMIT) == 0) {
+                return acquire(overflow, now);
+            }
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+        return acquire(tat, now);
+    }
+
+    private long acquire(AtomicLong tat, long now) {
+        while (true) {
+            long current = tat.get();
+            long base = Math.max(current, now);
+            long wait = base - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /** Removes fully refilled buckets and returns how many were removed. */
+    public int evictIdle() {
+        return evictIdle(System.nanoTime(), Integer.MAX_VALUE);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private int evictIdle(long now, int limit) {
+        int removed = 0;
+        int examined = 0;
+        for (var entry : buckets.entrySet()) {
+            if (examined++ == limit) {
+                break;
+            }
+            if (entry.getValue().get() <= now && buckets.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,23 @@
+package com.smarttask.smarttask_backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * WHY: Fixed-length SHA-256 digest of an opaque token.
+ * Refresh tokens are stored and looked up by digest only, so a leaked table does not leak usable tokens;
+ * JwtService keys its verified-token cache the same way.
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {}
+
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
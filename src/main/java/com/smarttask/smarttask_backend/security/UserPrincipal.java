@@ -0,0 +1,53 @@
+package com.smarttask.smarttask_backend.security;
+
+import com.smarttask.smarttask_backend.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * WHY:
+ * - Immutable snapshot of the authenticated user, cached by PrincipalCache.
+ * - Carries the user id so services can work with it directly instead of re-reading the users table.
+ * - No password: JWT-authenticated requests never need it.
+ */
+public record UserPrincipal(
+        UUID id,
+        String username,
+        String role,
+        boolean enabled,
+        List<GrantedAuthority> authorities
+) implements UserDetails {
+
+    public static UserPrincipal from(User u) {
+        return new UserPrincipal(
+                u.getId(),
+                u.getUsername(),
+                u.getRole(),
+                u.isEnabled(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + u.getRole())));
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
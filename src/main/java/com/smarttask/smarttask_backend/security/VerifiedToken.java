@@ -0,0 +1,34 @@
+package com.smarttask.smarttask_backend.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * WHY: Result of one signature check + parse of an access token.
+ * Everything the filter needs is read from the claims once; instances are immutable and safe to cache.
+ *
+ * @param uid null for tokens without a "uid" claim (Swagger tokens)
+ */
+public record VerifiedToken(
+        String subject,
+        UUID uid,
+        String role,
+        Instant expiresAt
+) {
+
+    static VerifiedToken from(Claims claims) {
+        String uid = claims.get("uid", String.class);
+        var exp = claims.getExpiration();
+        return new VerifiedToken(
+                claims.getSubject(),
+                uid == null ? null : UUID.fromString(uid),
+                claims.get("role", String.class),
+                exp == null ? Instant.EPOCH : exp.toInstant());
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
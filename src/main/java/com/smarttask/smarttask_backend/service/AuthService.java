@@ -10,11 +10,14 @@ import com.smarttask.smarttask_backend.exception.InvalidRefreshTokenException;
 import com.smarttask.smarttask_backend.repository.RefreshTokenRepository;
 import com.smarttask.smarttask_backend.repository.UserRepository;
 import com.smarttask.smarttask_backend.security.JwtService;
+import com.smarttask.smarttask_backend.security.PasswordHasher;
+import com.smarttask.smarttask_backend.security.PrincipalCache;
+import com.smarttask.smarttask_backend.security.TokenDigest;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -26,16 +29,20 @@ import java.util.UUID;
  * WHY:
  * - Business logic for register/login/refresh/logout.
  * - Refresh token rotation for better security.
+ * - Refresh tokens are persisted as SHA-256 digests (TokenDigest) and looked up by digest.
+ * - register/login are not @Transactional: BCrypt runs on PasswordHasher's pool and a surrounding
+ *   transaction would hold a pooled connection for the whole hash. Each repository call commits on its own.
  */
 @Service
+@Timed("auth.service")
 @RequiredArgsConstructor
 public class AuthService {
     private final UserRepository userRepo;
     private final RefreshTokenRepository rtRepo;
-    private final PasswordEncoder encoder;
+    private final PasswordHasher hasher;
     private final JwtService jwtService;
+    private final PrincipalCache principalCache;
 
-    @Transactional
     public UserResponse register(RegisterRequest req) {
         String username = req.username().trim();
         String email = req.email().trim().toLowerCase();
@@ -51,7 +58,7 @@ public class AuthService {
         var u = User.builder()
                 .username(username)
                 .email(email)
-                .password(encoder.encode(password))
+                .password(hasher.encode(password))
                 .role("USER")
                 .enabled(true)
                 .deleted(false)
@@ -60,12 +67,12 @@ public class AuthService {
         return new UserResponse(u.getId().toString(), u.getUsername(), u.getEmail(), u.getRole());
     }
 
-    @Transactional
     public TokenResponse login(LoginRequest req) {
         String username = req.username().trim();
         String rawPassword = req.password();
 
-        var u = userRepo.findByUsernameAndDeletedFalse(username)
+        var u = userRepo.findByNaturalUsername(username)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> new BadCredentialsException("Invalid username or password"));
 
         if (u.isDeleted()) {
@@ -75,9 +82,13 @@ public class AuthService {
             throw new DisabledException("Account is disabled");
         }
 
-        if (!encoder.matches(rawPassword, u.getPassword())) {
+        if (!hasher.matches(rawPassword, u.getPassword())) {
             throw new BadCredentialsException("Invalid username or password");
         }
+        if (hasher.needsRehash(u.getPassword())) {
+            u.setPassword(hasher.encode(rawPassword));   // cost was raised since this hash was made
+            u = userRepo.save(u);
+        }
 
         String access = jwtService.generateAccessToken(u.getUsername(), Map.of(
                 "role", u.getRole(),
@@ -92,7 +103,7 @@ public class AuthService {
         if (refreshToken == null || refreshToken.isBlank()) {
             throw new InvalidRefreshTokenException("Refresh token is required");
         }
-        var saved = rtRepo.findByTokenAndRevokedFalse(refreshToken)
+        var saved = rtRepo.findByTokenHashAndRevokedFalse(TokenDigest.sha256(refreshToken))
                 .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
         if (saved.getExpiresAt().isBefore(Instant.now())) {
             saved.setRevoked(true);
@@ -113,16 +124,16 @@ public class AuthService {
     }
 
     @Transactional
-    public void logout(String username) {
-        userRepo.findByUsernameAndDeletedFalse(username)
-                .ifPresent(user -> rtRepo.deleteByUser_Id(user.getId())); // revoke all refresh tokens
+    public void logout(UUID userId) {
+        rtRepo.deleteAllByUserId(userId); // revoke all refresh tokens
+        principalCache.evict(userId);
     }
 
     private String rotateRefresh(User u) {
         String token = UUID.randomUUID() + "." + UUID.randomUUID();
         var rt = RefreshToken.builder()
                 .user(u)
-                .token(token)
+                .tokenHash(TokenDigest.sha256(token))
                 .expiresAt(Instant.now().plus(7, ChronoUnit.DAYS))
                 .revoked(false)
                 .build();
@@ -0,0 +1,27 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.dto.TaskChangeEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/** WHY: Default fan-out for a single instance: hands events straight to local listeners. */
+@Component
+@ConditionalOnProperty(name = "tasks.stream.fanout", havingValue = "in-process", matchIfMissing = true)
+public class InProcessTaskChangeFanout implements TaskChangeFanout {
+
+    private final List<Consumer<TaskChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(TaskChangeEvent event) {
+        listeners.forEach(l -> l.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<TaskChangeEvent> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,22 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.dto.TaskReminder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** WHY: Default notifier until a delivery channel exists: writes one log line per reminder. */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.reminders.notifier", havingValue = "log", matchIfMissing = true)
+public class LoggingTaskReminderNotifier implements TaskReminderNotifier {
+
+    @Override
+    public void send(List<TaskReminder> reminders) {
+        for (TaskReminder r : reminders) {
+            log.info("⏰ Reminder for user {}: task {} \"{}\" is due {}", r.userId(), r.taskId(), r.title(), r.dueDate());
+        }
+    }
+}
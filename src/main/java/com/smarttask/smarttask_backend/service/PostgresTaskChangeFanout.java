@@ -0,0 +1,131 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarttask.smarttask_backend.dto.TaskChangeEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * WHY: Multi-instance fan-out over Postgres LISTEN/NOTIFY.
+ * - publish() hands the event to a single notifier thread that sends pg_notify on a pooled autocommit
+ *   connection. It runs after commit, when the transaction's connection is still held, so sending from
+ *   the caller would need a second pooled connection per request.
+ * - One daemon thread per instance holds a dedicated, non-pooled connection that LISTENs and
+ *   delivers notifications (including our own) to local subscribers. It reconnects on failure.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tasks.stream.fanout", havingValue = "postgres")
+public class PostgresTaskChangeFanout implements TaskChangeFanout {
+
+    static final String CHANNEL = "task_changes";
+    private static final int POLL_TIMEOUT_MS = 10_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final DataSource dataSource;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<TaskChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService notifier = Executors.newSingleThreadExecutor(
+            r -> Thread.ofPlatform().name("task-changes-notify").daemon().unstarted(r));
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform().name("task-changes-listener").daemon().start(this::listenLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        listenerThread.interrupt();
+        notifier.shutdown();
+    }
+
+    @Override
+    public void publish(TaskChangeEvent event) {
+        notifier.execute(() -> sendNotify(event));
+    }
+
+    private void sendNotify(TaskChangeEvent event) {
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement("SELECT pg_notify(?, ?)")) {
+            ps.setString(1, CHANNEL);
+            ps.setString(2, objectMapper.writeValueAsString(event));
+            ps.execute();
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to NOTIFY task change for user {}: {}", event.userId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<TaskChangeEvent> listener) {
+        listeners.add(listener);
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection c = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement st = c.createStatement()) {
+                    st.execute("LISTEN " + CHANNEL);
+                }
+                log.info("✅ Listening for task changes on channel {}", CHANNEL);
+                PGConnection pg = c.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification n : notifications) {
+                        dispatch(n.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("⚠️ Task change listener lost its connection, retrying: {}", e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            TaskChangeEvent event = objectMapper.readValue(payload, TaskChangeEvent.class);
+            listeners.forEach(l -> l.accept(event));
+        } catch (Exception e) {
+            log.warn("⚠️ Dropping unreadable task change notification: {}", e.getMessage());
+        }
+    }
+}
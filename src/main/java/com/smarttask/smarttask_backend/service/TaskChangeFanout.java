@@ -0,0 +1,19 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.dto.TaskChangeEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * WHY: Decouples "a task change was committed" from "which SSE connections hear about it".
+ * The in-process implementation only reaches subscribers on this instance; the Postgres one
+ * (tasks.stream.fanout=postgres) relays through LISTEN/NOTIFY so every instance sees every change.
+ */
+public interface TaskChangeFanout {
+
+    /** Broadcasts a committed change. Must not throw; delivery is best-effort. */
+    void publish(TaskChangeEvent event);
+
+    /** Registers the receiver for changes from all instances. */
+    void subscribe(Consumer<TaskChangeEvent> listener);
+}
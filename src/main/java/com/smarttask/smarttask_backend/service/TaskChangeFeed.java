@@ -0,0 +1,320 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smarttask.smarttask_backend.dto.TaskChangeEvent;
+import com.smarttask.smarttask_backend.repository.TaskListVersionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WHY: Per-user Server-Sent Events feed of task changes, replacing list polling.
+ * - TaskService publishes TaskChangeEvent; it is forwarded to the fan-out only after the transaction commits.
+ * - Connections are async SseEmitters: an idle subscriber holds a socket, not a Tomcat thread.
+ * - Every connection has its own bounded send queue, drained by one virtual thread at a time, so events
+ *   reach each client in order and a client that stops reading only stalls itself. Publishers and the
+ *   heartbeat only enqueue; they never write to a socket.
+ * - A slow client is closed rather than buffered for: when its queue is full, or when one write has been
+ *   blocked for longer than tasks.stream.write-timeout (checked with the heartbeat). It reconnects with
+ *   Last-Event-ID like after any other drop. Counted in tasks.stream.slow-closed.
+ * - The event id is the user's task list version. A reconnect with Last-Event-ID replays from a
+ *   bounded per-user buffer; if the buffer no longer covers the gap the client gets a "resync" event
+ *   and should reload the list.
+ */
+@Slf4j
+@Service
+public class TaskChangeFeed {
+
+    private static final String EVENT_CHANGE = "task-change";
+    private static final String EVENT_RESYNC = "resync";
+
+    private final TaskChangeFanout fanout;
+    private final TaskListVersionRepository versionRepo;
+    private final long timeoutMs;
+    private final int replayBufferSize;
+
+    private final int sendQueueSize;
+    private final long writeTimeoutNanos;
+
+    private final Map<UUID, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final Cache<UUID, ReplayBuffer> buffers;
+    private final ExecutorService senders =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-changes-sse-", 0).factory());
+    private final Counter slowClosed;
+
+    public TaskChangeFeed(
+            TaskChangeFanout fanout,
+            TaskListVersionRepository versionRepo,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.stream.timeout:PT30M}") Duration timeout,
+            @Value("${tasks.stream.replay-buffer-size:100}") int replayBufferSize,
+            @Value("${tasks.stream.replay-users:10000}") long replayUsers,
+            @Value("${tasks.stream.send-queue:100}") int sendQueueSize,
+            @Value("${tasks.stream.write-timeout:PT10S}") Duration writeTimeout
+    ) {
+        this.fanout = fanout;
+        this.versionRepo = versionRepo;
+        this.timeoutMs = timeout.toMillis();
+        this.replayBufferSize = replayBufferSize;
+        this.sendQueueSize = sendQueueSize;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.buffers = Caffeine.newBuilder()
+                .maximumSize(replayUsers)
+                .expireAfterAccess(timeout)
+                .build();
+        fanout.subscribe(this::deliver);
+        Gauge.builder("tasks.stream.connections", connections, m -> m.values().stream().mapToInt(Set::size).sum())
+                .description("Open task change SSE connections")
+                .register(meterRegistry);
+        this.slowClosed = Counter.builder("tasks.stream.slow-closed")
+                .description("SSE connections closed because the client did not keep up")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Closes open streams when the context starts shutting down. Otherwise graceful shutdown would wait
+     * for every long-lived SSE request to time out.
+     */
+    @EventListener(ContextClosedEvent.class)
+    void closeStreams() {
+        connections.values().forEach(set -> set.forEach(c -> c.emitter.complete()));
+        connections.clear();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+    }
+
+    /** Runs only once the writing transaction has committed, so subscribers never see rolled-back changes. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommitted(TaskChangeEvent event) {
+        fanout.publish(event);
+    }
+
+    public SseEmitter subscribe(UUID userId, Long lastEventId) {
+        var connection = new Connection(userId, new SseEmitter(timeoutMs));
+        SseEmitter emitter = connection.emitter;
+        connections.compute(userId, (k, set) -> {
+            if (set == null) {
+                set = ConcurrentHashMap.newKeySet();
+            }
+            set.add(connection);
+            return set;
+        });
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> {
+            remove(connection);
+            emitter.complete();   // normal end of stream; the client reconnects with Last-Event-ID
+        });
+        emitter.onError(e -> remove(connection));
+
+        connection.offer(SseEmitter.event().comment("connected"));
+        if (lastEventId != null) {
+            replay(connection, lastEventId);
+        }
+        return emitter;
+    }
+
+    /** Keeps idle connections open through proxies, and closes clients stuck in a write. */
+    @Scheduled(fixedDelayString = "${tasks.stream.heartbeat:PT20S}")
+    void heartbeat() {
+        long now = System.nanoTime();
+        connections.values().forEach(set -> set.forEach(connection -> {
+            long since = connection.writingSince;
+            if (since != 0 && now - since > writeTimeoutNanos) {
+                connection.closeSlow("a write has been blocked for over the write timeout");
+            } else {
+                connection.offer(SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    private void deliver(TaskChangeEvent event) {
+        buffers.get(event.userId(), k -> new ReplayBuffer(replayBufferSize)).add(event);
+        Set<Connection> set = connections.get(event.userId());
+        if (set != null) {
+            set.forEach(connection -> connection.offer(toSse(event)));
+        }
+    }
+
+    private void replay(Connection connection, long lastEventId) {
+        ReplayBuffer buffer = buffers.getIfPresent(connection.userId);
+        List<TaskChangeEvent> missed = buffer == null ? null : buffer.after(lastEventId);
+        if (missed != null) {
+            missed.forEach(e -> connection.offer(toSse(e)));
+            return;
+        }
+        long current = versionRepo.findVersion(connection.userId).orElse(0L);
+        if (current > lastEventId) {
+            connection.offer(SseEmitter.event()
+                    .id(Long.toString(current))
+                    .name(EVENT_RESYNC)
+                    .data(Map.of("version", current)));
+        }
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (k, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(TaskChangeEvent event) {
+        return SseEmitter.event()
+                .id(Long.toString(event.version()))
+                .name(EVENT_CHANGE)
+                .data(event);
+    }
+
+    /** One SSE connection with its send queue; at most one sender drains it at a time. */
+    private final class Connection {
+        final UUID userId;
+        final SseEmitter emitter;
+        private final ArrayDeque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean draining;
+        private boolean closed;
+        volatile long writingSince;   // System.nanoTime() when the current write began, 0 when not writing
+
+        Connection(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            boolean full = false;
+            boolean startDrain = false;
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() >= sendQueueSize) {
+                    full = true;
+                } else {
+                    queue.addLast(event);
+                    startDrain = !draining;
+                    draining = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (full) {
+                closeSlow("its send queue is full");
+            } else if (startDrain) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder next;
+                lock.lock();
+                try {
+                    next = closed ? null : queue.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                writingSince = System.nanoTime();
+                try {
+                    emitter.send(next);
+                } catch (Exception e) {
+                    log.debug("SSE client of user {} went away: {}", userId, e.getMessage());
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                } finally {
+                    writingSince = 0;
+                }
+            }
+        }
+
+        /** Ends the stream; the client reconnects with Last-Event-ID and catches up from the replay buffer. */
+        void closeSlow(String reason) {
+            if (close()) {
+                slowClosed.increment();
+                log.info("🐢 Closing SSE connection of user {}: {}", userId, reason);
+                emitter.complete();
+            }
+        }
+
+        /** @return true for the call that actually closed it */
+        private boolean close() {
+            remove(this);
+            lock.lock();
+            try {
+                boolean wasOpen = !closed;
+                closed = true;
+                queue.clear();
+                return wasOpen;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Last N events of one user, ordered by version. */
+    private static final class ReplayBuffer {
+        private final int capacity;
+        private final ArrayDeque<TaskChangeEvent> events;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        ReplayBuffer(int capacity) {
+            this.capacity = capacity;
+            this.events = new ArrayDeque<>(capacity);
+        }
+
+        void add(TaskChangeEvent event) {
+            lock.lock();
+            try {
+                if (events.size() == capacity) {
+                    events.removeFirst();
+                }
+                events.addLast(event);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** Events newer than lastId, or null when the buffer cannot prove nothing was missed. */
+        List<TaskChangeEvent> after(long lastId) {
+            lock.lock();
+            try {
+                if (events.isEmpty() || events.peekFirst().version() > lastId + 1) {
+                    return null;
+                }
+                return events.stream().filter(e -> e.version() > lastId).toList();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
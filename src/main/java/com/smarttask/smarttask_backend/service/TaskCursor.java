@@ -0,0 +1,36 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.repository.TaskView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * WHY: Opaque keyset position for task listing.
+ * Encodes the (created_at, id) of the last task on a page so the next page can seek past it.
+ */
+public record TaskCursor(Instant createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static TaskCursor of(TaskView task) {
+        return new TaskCursor(task.createdAt(), task.id());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(SEPARATOR);
+            return new TaskCursor(Instant.parse(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
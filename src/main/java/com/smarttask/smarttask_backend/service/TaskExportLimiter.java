@@ -0,0 +1,61 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+/**
+ * WHY: An export keeps a pooled connection and an open read transaction until the client has read the
+ * whole file, which can be most of spring.mvc.async.request-timeout for a slow client. Only
+ * tasks.export.max-concurrent exports run at once, so exports alone can never take the whole pool.
+ * The controller acquires a slot before answering (503 + Retry-After when none is free) and the streaming
+ * body releases it when it ends, however it ends. A client that stops reading gives its connection back
+ * after tasks.export.idle-timeout and its slot once Tomcat's write times out (server.tomcat.connection-timeout).
+ * Metrics: tasks.export.active, tasks.export.rejected.
+ */
+@Component
+public class TaskExportLimiter {
+
+    private final Semaphore slots;
+    private final int maxConcurrent;
+    private final Duration retryAfter;
+    private final Counter rejected;
+
+    public TaskExportLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${tasks.export.max-concurrent:4}") int maxConcurrent,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${tasks.export.retry-after:PT10S}") Duration retryAfter
+    ) {
+        if (maxConcurrent < 1 || maxConcurrent >= poolSize) {
+            throw new IllegalStateException("tasks.export.max-concurrent must be at least 1 and below the "
+                    + "connection pool size (" + poolSize + ")");
+        }
+        this.slots = new Semaphore(maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+        this.retryAfter = retryAfter;
+        this.rejected = Counter.builder("tasks.export.rejected")
+                .description("Exports refused because tasks.export.max-concurrent were already running")
+                .register(meterRegistry);
+        Gauge.builder("tasks.export.active", slots, s -> this.maxConcurrent - s.availablePermits())
+                .description("Exports currently streaming").register(meterRegistry);
+    }
+
+    /** Takes a slot or throws ServiceBusyException; every successful call must be paired with release(). */
+    public void acquire() {
+        if (!slots.tryAcquire()) {
+            rejected.increment();
+            throw new ServiceBusyException("Too many exports running, please retry shortly", retryAfter);
+        }
+    }
+
+    public void release() {
+        slots.release();
+    }
+}
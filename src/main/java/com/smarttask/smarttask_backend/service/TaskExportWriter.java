@@ -0,0 +1,105 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.repository.TaskExportRow;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * WHY: Writes export rows to the response as they arrive from the database cursor.
+ * Output is buffered (never flushed per row) and the target stream is left open for Spring to complete.
+ */
+@Component
+public class TaskExportWriter {
+
+    private static final String CSV_HEADER = "id,title,description,status,completed,dueDate,createdAt,updatedAt";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public TaskExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(TaskExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /** @return the number of rows written */
+    public long write(Stream<TaskExportRow> rows, TaskExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> writeNdjson(rows.iterator(), out);
+            case CSV -> writeCsv(rows.iterator(), out);
+        };
+    }
+
+    private long writeNdjson(Iterator<TaskExportRow> rows, OutputStream out) throws IOException {
+        long count = 0;
+        // Jackson puts a space between root values written to one generator; the newline is the only separator.
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null)) {
+            while (rows.hasNext()) {
+                rowWriter.writeValue(json, rows.next());
+                json.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<TaskExportRow> rows, OutputStream out) throws IOException {
+        long count = 0;
+        // Not closed: that would close the response stream; flushed below instead.
+        var csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        csv.write(CSV_HEADER);
+        csv.write("\r\n");
+        while (rows.hasNext()) {
+            TaskExportRow row = rows.next();
+            csv.write(row.id().toString());
+            csv.write(',');
+            csv.write(csvText(row.title()));
+            csv.write(',');
+            csv.write(csvText(row.description()));
+            csv.write(',');
+            csv.write(row.status().name());
+            csv.write(',');
+            csv.write(Boolean.toString(row.status() == TaskStatus.DONE));
+            csv.write(',');
+            csv.write(row.dueDate() == null ? "" : row.dueDate().toString());
+            csv.write(',');
+            csv.write(row.createdAt().toString());
+            csv.write(',');
+            csv.write(row.updatedAt().toString());
+            csv.write("\r\n");
+            count++;
+        }
+        csv.flush();
+        return count;
+    }
+
+    /**
+     * RFC 4180 quoting. Cells starting with a formula character get a leading apostrophe so spreadsheets
+     * show user-entered text instead of evaluating it.
+     */
+    static String csvText(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String text = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        return quote ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+}
@@ -0,0 +1,231 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.smarttask.smarttask_backend.dto.TaskCreateRequest;
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.entity.TaskImport;
+import com.smarttask.smarttask_backend.repository.TaskImportRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * WHY: Loads an upload with the COPY protocol instead of one INSERT per task.
+ * Records are parsed and validated as they arrive and streamed into a temporary staging table; one
+ * INSERT ... SELECT then moves them into tasks, so the stats triggers and indexes see a single statement.
+ * Runs inside the caller's transaction: either every valid row is imported or none is.
+ */
+@Slf4j
+@Component
+public class TaskImportLoader {
+
+    public record Result(long read, long imported, long rejected) {}
+
+    private record Rejected(long line, String error, String raw) {}
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PROGRESS_CHECK_ROWS = 1024;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE task_import_staging (
+              line_no BIGINT NOT NULL,
+              title TEXT NOT NULL,
+              description TEXT,
+              status VARCHAR(20) NOT NULL,
+              due_date TIMESTAMPTZ
+            ) ON COMMIT DROP
+            """;
+    private static final String COPY_STAGING =
+            "COPY task_import_staging (line_no, title, description, status, due_date) FROM STDIN";
+    // created_at steps by a microsecond per line, so the newest-first list keeps the file's order
+    // (as if the rows had been created one by one) instead of ordering same-timestamp rows by id.
+    // Tasks already overdue on arrival count as reminded, the same rule V8 used when reminders shipped,
+    // so an import of old tasks does not send a burst of reminders.
+    private static final String MERGE = """
+            INSERT INTO tasks (user_id, title, description, status, completed, due_date, reminded_at, created_at, updated_at)
+            SELECT ?, title, description, status, status = 'DONE', due_date,
+                   CASE WHEN due_date < now() THEN now() END, ts, ts
+              FROM (SELECT s.*, now() + s.line_no * interval '1 microsecond' AS ts FROM task_import_staging s) staged
+            """;
+    private static final String COPY_ERRORS = "COPY task_import_errors (import_id, line_no, error, raw) FROM STDIN";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final TaskImportRepository importRepo;
+    private final Validator validator;
+    private final ObjectReader jsonReader;
+
+    @Value("${tasks.import.max-rows:1000000}")
+    private long maxRows;
+
+    @Value("${tasks.import.max-errors:10000}")
+    private int maxErrors;
+
+    @Value("${tasks.import.progress-interval:PT1S}")
+    private Duration progressInterval;
+
+    public TaskImportLoader(TaskImportRepository importRepo, Validator validator, ObjectMapper objectMapper) {
+        this.importRepo = importRepo;
+        this.validator = validator;
+        this.jsonReader = objectMapper.readerFor(TaskCreateRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    /** Must be called inside a transaction; marks the import COMPLETED in it. */
+    public Result load(UUID importId, UUID userId, TaskExportFormat format, InputStream in) throws IOException {
+        long started = System.nanoTime();
+        Result result;
+        try {
+            result = em.unwrap(Session.class).doReturningWork(conn -> {
+                try {
+                    return copyAndMerge(conn, importId, userId, new TaskImportParser(format, in, jsonReader));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        importRepo.complete(importId, result.read(), result.imported(), result.rejected(), Instant.now());
+        log.info("📥 Imported {} tasks for user {} ({} read, {} rejected) in {} ms", result.imported(), userId,
+                result.read(), result.rejected(), (System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    private Result copyAndMerge(Connection conn, UUID importId, UUID userId, TaskImportParser parser)
+            throws SQLException, IOException {
+        try (var st = conn.createStatement()) {
+            st.execute(CREATE_STAGING);
+        }
+        var pg = conn.unwrap(PGConnection.class);
+        var rejectedRows = new ArrayList<Rejected>();
+        long read = 0;
+        long rejected = 0;
+        long nextProgress = System.nanoTime() + progressInterval.toNanos();
+
+        try (var copy = copyWriter(pg, COPY_STAGING)) {
+            TaskImportParser.Row row;
+            while ((row = parser.next()) != null) {
+                if (++read > maxRows) {
+                    throw new IllegalArgumentException("At most " + maxRows + " rows per import");
+                }
+                String error = row.error() != null ? row.error() : validate(row.task());
+                if (error != null) {
+                    if (rejected++ < maxErrors) {
+                        rejectedRows.add(new Rejected(row.line(), error, parser.raw().replace('\0', '\uFFFD')));
+                    }
+                } else {
+                    writeStaged(copy, row);
+                }
+                if (read % PROGRESS_CHECK_ROWS == 0 && System.nanoTime() - nextProgress >= 0) {
+                    importRepo.progress(importId, TaskImport.Status.LOADING, read, rejected);
+                    nextProgress = System.nanoTime() + progressInterval.toNanos();
+                }
+            }
+        }
+        importRepo.progress(importId, TaskImport.Status.MERGING, read, rejected);
+
+        long imported;
+        try (var merge = conn.prepareStatement(MERGE)) {
+            merge.setObject(1, userId);
+            imported = merge.executeLargeUpdate();
+        }
+        if (!rejectedRows.isEmpty()) {
+            try (var copy = copyWriter(pg, COPY_ERRORS)) {
+                for (var r : rejectedRows) {
+                    copy.write(importId.toString());
+                    copy.write('\t');
+                    copy.write(Long.toString(r.line()));
+                    copy.write('\t');
+                    copyText(copy, r.error());
+                    copy.write('\t');
+                    copyText(copy, r.raw());
+                    copy.write('\n');
+                }
+            }
+        }
+        return new Result(read, imported, rejected);
+    }
+
+    private String validate(TaskCreateRequest task) {
+        String error = TaskService.describeViolations(validator.validate(task));
+        if (error != null) {
+            return error;
+        }
+        if (task.title().indexOf('\0') >= 0 || (task.description() != null && task.description().indexOf('\0') >= 0)) {
+            return "title and description must not contain NUL characters";
+        }
+        if (task.dueDate() != null && (task.dueDate().getYear() < 1 || task.dueDate().getYear() > 9999)) {
+            return "dueDate: year must be between 1 and 9999";
+        }
+        return null;
+    }
+
+    private static void writeStaged(Writer copy, TaskImportParser.Row row) throws IOException {
+        var task = row.task();
+        copy.write(Long.toString(row.line()));
+        copy.write('\t');
+        copyText(copy, task.title());
+        copy.write('\t');
+        copyText(copy, task.description());
+        copy.write('\t');
+        copy.write(TaskService.resolveIncomingStatus(task.status(), task.completed()).name());
+        copy.write('\t');
+        copy.write(task.dueDate() == null ? "\\N" : task.dueDate().toString());
+        copy.write('\n');
+    }
+
+    /** COPY text format: \N for null; backslash, tab and line breaks escaped. */
+    private static void copyText(Writer copy, String value) throws IOException {
+        if (value == null) {
+            copy.write("\\N");
+            return;
+        }
+        int from = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String escape = switch (value.charAt(i)) {
+                case '\\' -> "\\\\";
+                case '\t' -> "\\t";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                default -> null;
+            };
+            if (escape != null) {
+                copy.write(value, from, i - from);
+                copy.write(escape);
+                from = i + 1;
+            }
+        }
+        copy.write(value, from, value.length() - from);
+    }
+
+    /** Closing the writer ends the COPY; the rows are then part of the open transaction. */
+    private static Writer copyWriter(PGConnection pg, String sql) throws SQLException {
+        var out = new PGCopyOutputStream(pg, sql, BUFFER_SIZE);
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+}
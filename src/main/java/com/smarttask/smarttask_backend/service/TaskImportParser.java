@@ -0,0 +1,296 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.smarttask.smarttask_backend.dto.TaskCreateRequest;
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * WHY: Reads an upload one record at a time, so an import never holds more than one record in memory.
+ * CSV follows RFC 4180 (quoted fields may span lines) with a header naming the columns; NDJSON is one
+ * object per line. Both accept the fields of TaskCreateRequest and ignore the rest, so an export
+ * (GET /api/tasks/export) can be imported as is.
+ */
+final class TaskImportParser {
+
+    /** A parsed record: task is null when the record was rejected, with the reason in error. */
+    record Row(long line, TaskCreateRequest task, String error) {}
+
+    static final int MAX_RECORD_CHARS = 1 << 20;
+    private static final String ONE_OBJECT = "expected one JSON object per line";
+    private static final int RAW_LIMIT = 1000;   // characters of a rejected record kept for the error file
+
+    private final TaskExportFormat format;
+    private final ObjectReader json;
+    private final Reader in;
+    private final char[] buf = new char[64 * 1024];
+    private int pos;
+    private int end;
+    private boolean started;
+    private long line = 1;
+
+    private final StringBuilder field = new StringBuilder();
+    private final StringBuilder raw = new StringBuilder();
+    private Column[] columns;   // CSV header, by position; null entries are ignored columns
+
+    private enum Column { TITLE, DESCRIPTION, STATUS, COMPLETED, DUE_DATE }
+
+    TaskImportParser(TaskExportFormat format, InputStream in, ObjectReader json) {
+        this.format = format;
+        this.json = json;
+        this.in = new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+
+    /** @return the next record, or null at the end of the upload */
+    Row next() throws IOException {
+        return format == TaskExportFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    private Row nextNdjson() throws IOException {
+        while (true) {
+            long start = line;
+            String text = readLine();
+            if (text == null) {
+                return null;
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                var task = json.<TaskCreateRequest>readValue(text);
+                return task == null ? reject(start, ONE_OBJECT) : new Row(start, task, null);
+            } catch (JsonMappingException e) {
+                String path = e.getPath().stream()
+                        .map(r -> r.getFieldName() != null ? r.getFieldName() : "[" + r.getIndex() + "]")
+                        .collect(Collectors.joining("."));
+                return reject(start, path.isEmpty() ? ONE_OBJECT : path + ": invalid value");
+            } catch (JsonProcessingException e) {
+                return reject(start, "invalid JSON");
+            }
+        }
+    }
+
+    private Row nextCsv() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+        while (true) {
+            long start = line;
+            List<String> fields = readCsvRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;   // blank line
+            }
+            if (fields.size() != columns.length) {
+                return reject(start, "expected " + columns.length + " columns, found " + fields.size());
+            }
+            String title = null, description = null;
+            TaskStatus status = null;
+            Boolean completed = null;
+            OffsetDateTime dueDate = null;
+            for (int i = 0; i < columns.length; i++) {
+                String value = fields.get(i);
+                if (columns[i] == null || value.isEmpty()) {
+                    continue;
+                }
+                switch (columns[i]) {
+                    case TITLE -> title = value;
+                    case DESCRIPTION -> description = value;
+                    case STATUS -> {
+                        try {
+                            status = TaskStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
+                        } catch (IllegalArgumentException e) {
+                            return reject(start, "status: must be TODO, IN_PROGRESS or DONE");
+                        }
+                    }
+                    case COMPLETED -> {
+                        if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                            return reject(start, "completed: must be true or false");
+                        }
+                        completed = Boolean.parseBoolean(value);
+                    }
+                    case DUE_DATE -> {
+                        try {
+                            dueDate = OffsetDateTime.parse(value.trim());
+                        } catch (DateTimeParseException e) {
+                            return reject(start, "dueDate: must be an ISO-8601 date-time with offset");
+                        }
+                    }
+                }
+            }
+            return new Row(start, new TaskCreateRequest(title, description, dueDate, status, completed), null);
+        }
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readCsvRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV upload is empty; the first line must name the columns");
+        }
+        columns = new Column[header.size()];
+        boolean hasTitle = false;
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+            columns[i] = switch (name) {
+                case "title" -> Column.TITLE;
+                case "description" -> Column.DESCRIPTION;
+                case "status" -> Column.STATUS;
+                case "completed" -> Column.COMPLETED;
+                case "duedate" -> Column.DUE_DATE;
+                default -> null;   // e.g. id, createdAt, updatedAt from an export
+            };
+            hasTitle |= columns[i] == Column.TITLE;
+        }
+        if (!hasTitle) {
+            throw new IllegalArgumentException("CSV header must include a title column");
+        }
+    }
+
+    /** One CSV record as fields, or null at the end of input. Fills raw with the record text. */
+    private List<String> readCsvRecord() throws IOException {
+        long start = line;
+        raw.setLength(0);
+        field.setLength(0);
+        var fields = new ArrayList<String>();
+        boolean quoted = false;
+        boolean any = false;
+        int length = 0;
+        int c;
+        while ((c = read()) != -1) {
+            any = true;
+            if (++length > MAX_RECORD_CHARS) {
+                throw new IllegalArgumentException("Record at line " + start + " is longer than "
+                        + MAX_RECORD_CHARS + " characters (unbalanced quote?)");
+            }
+            if (quoted) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                        keepRaw('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    read();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            keepRaw(c);
+        }
+        if (!any) {
+            return null;
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field at the end of the upload");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /** One line without its terminator, or null at the end of input. Fills raw. */
+    private String readLine() throws IOException {
+        raw.setLength(0);
+        field.setLength(0);
+        int c;
+        boolean any = false;
+        while ((c = read()) != -1) {
+            any = true;
+            if (c == '\n') {
+                break;
+            }
+            if (field.length() == MAX_RECORD_CHARS) {
+                throw new IllegalArgumentException("Line " + line + " is longer than " + MAX_RECORD_CHARS + " characters");
+            }
+            field.append((char) c);
+            keepRaw(c);
+        }
+        if (!any) {
+            return null;
+        }
+        int len = field.length();
+        if (len > 0 && field.charAt(len - 1) == '\r') {
+            field.setLength(len - 1);
+        }
+        return field.toString();
+    }
+
+    /** Text of the record last returned by next(), cut to RAW_LIMIT characters; for the error file. */
+    String raw() {
+        return raw.toString();
+    }
+
+    private Row reject(long start, String error) {
+        return new Row(start, null, error);
+    }
+
+    private void keepRaw(int c) {
+        if (raw.length() < RAW_LIMIT) {
+            raw.append((char) c);
+        }
+    }
+
+    private int read() throws IOException {
+        if (pos == end && !fill()) {
+            return -1;
+        }
+        char c = buf[pos++];
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (pos == end && !fill()) {
+            return -1;
+        }
+        return buf[pos];
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(buf, 0, buf.length);
+        if (n <= 0) {
+            return false;
+        }
+        pos = 0;
+        end = n;
+        if (!started) {
+            started = true;
+            if (buf[0] == '\uFEFF') {   // byte order mark written by spreadsheet exports
+                pos = 1;
+                return pos < end || fill();
+            }
+        }
+        return true;
+    }
+}
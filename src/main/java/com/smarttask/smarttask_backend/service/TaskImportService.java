@@ -0,0 +1,123 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.dto.TaskImportResponse;
+import com.smarttask.smarttask_backend.entity.TaskImport;
+import com.smarttask.smarttask_backend.exception.ServiceBusyException;
+import com.smarttask.smarttask_backend.repository.TaskImportRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+/**
+ * WHY: Keeps the import record outside the import transaction. It is committed before the upload is
+ * read (so progress can be polled) and marked FAILED after a rollback, which the import itself cannot do.
+ *
+ * A running import holds a pooled connection for the whole upload and borrows a second one each time it
+ * publishes progress. Enough concurrent imports would take every connection and then wait forever for
+ * those second ones, so only tasks.import.max-concurrent run at once, fewer than half the pool; further
+ * uploads get 503 + Retry-After before anything is read (counted in tasks.import.rejected).
+ */
+@Slf4j
+@Service
+public class TaskImportService {
+
+    private final TaskService tasks;
+    private final TaskImportRepository importRepo;
+    private final Semaphore running;
+    private final Duration retryAfter;
+    private final Counter rejected;
+
+    public TaskImportService(
+            TaskService tasks,
+            TaskImportRepository importRepo,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.import.max-concurrent:2}") int maxConcurrent,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${tasks.import.retry-after:PT10S}") Duration retryAfter
+    ) {
+        if (maxConcurrent < 1 || 2 * maxConcurrent >= poolSize) {
+            throw new IllegalStateException("tasks.import.max-concurrent must be at least 1 and below half of "
+                    + "the connection pool (" + poolSize + "): each import needs two connections at once");
+        }
+        this.tasks = tasks;
+        this.importRepo = importRepo;
+        this.running = new Semaphore(maxConcurrent);
+        this.retryAfter = retryAfter;
+        this.rejected = Counter.builder("tasks.import.rejected")
+                .description("Imports refused because tasks.import.max-concurrent were already running")
+                .register(meterRegistry);
+    }
+
+    /** Reads the whole upload; returns once the import has committed or failed. */
+    public TaskImportResponse importTasks(UUID userId, TaskExportFormat format, InputStream in) throws IOException {
+        if (!running.tryAcquire()) {
+            rejected.increment();
+            throw new ServiceBusyException("Too many imports running, please retry shortly", retryAfter);
+        }
+        try {
+            return runImport(userId, format, in);
+        } finally {
+            running.release();
+        }
+    }
+
+    private TaskImportResponse runImport(UUID userId, TaskExportFormat format, InputStream in) throws IOException {
+        var job = importRepo.save(TaskImport.builder()
+                .userId(userId)
+                .format(format)
+                .status(TaskImport.Status.LOADING)
+                .build());
+        try {
+            tasks.importTasks(job.getId(), userId, format, in);
+        } catch (IllegalArgumentException e) {
+            importRepo.fail(job.getId(), e.getMessage(), Instant.now());
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ Import {} failed for user {}", job.getId(), userId, e);
+            importRepo.fail(job.getId(), "Import failed", Instant.now());
+            throw e;
+        }
+        return importRepo.findById(job.getId()).map(TaskImportResponse::from).orElseThrow();
+    }
+
+    public Optional<TaskImportResponse> find(UUID userId, UUID importId) {
+        return importRepo.findByIdAndUserId(importId, userId).map(TaskImportResponse::from);
+    }
+
+    /** The user's 20 most recent imports, newest first; running ones included. */
+    public List<TaskImportResponse> recent(UUID userId) {
+        return importRepo.findTop20ByUserIdOrderByCreatedAtDesc(userId).stream().map(TaskImportResponse::from).toList();
+    }
+
+    /** Error file of an import as CSV (line, error, raw). The caller checks ownership first. */
+    public void writeErrors(UUID importId, OutputStream out) throws IOException {
+        // Not closed: that would close the response stream.
+        var csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        csv.write("line,error,raw\r\n");
+        for (var row : importRepo.findErrors(importId)) {
+            csv.write(Long.toString(row.getLineNo()));
+            csv.write(',');
+            csv.write(TaskExportWriter.csvText(row.getError()));
+            csv.write(',');
+            csv.write(TaskExportWriter.csvText(row.getRaw()));
+            csv.write("\r\n");
+        }
+        csv.flush();
+    }
+}
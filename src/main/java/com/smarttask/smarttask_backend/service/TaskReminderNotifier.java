@@ -0,0 +1,15 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.dto.TaskReminder;
+
+import java.util.List;
+
+/**
+ * WHY: Separates "which reminders are due" from "how users are told" (log, push, e-mail...).
+ * Called inside the claiming transaction: throwing rolls the batch back and it is retried on the next poll.
+ * Select the implementation with tasks.reminders.notifier.
+ */
+public interface TaskReminderNotifier {
+
+    void send(List<TaskReminder> reminders);
+}
@@ -0,0 +1,77 @@
+package com.smarttask.smarttask_backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * WHY: Polls for tasks due within tasks.reminders.lead-time and drains them batch by batch
+ * (each batch its own transaction in TaskReminderService), up to max-batches per poll.
+ * Metrics: tasks.reminders.sent, tasks.reminders.failed, tasks.reminders.batch (time per batch).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskReminderScheduler {
+
+    private final TaskReminderService reminders;
+    private final Duration leadTime;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter sent;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    public TaskReminderScheduler(
+            TaskReminderService reminders,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.reminders.lead-time:PT1H}") Duration leadTime,
+            @Value("${tasks.reminders.batch-size:100}") int batchSize,
+            @Value("${tasks.reminders.max-batches:50}") int maxBatches
+    ) {
+        this.reminders = reminders;
+        this.leadTime = leadTime;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.sent = Counter.builder("tasks.reminders.sent")
+                .description("Due-date reminders handed to the notifier").register(meterRegistry);
+        this.failed = Counter.builder("tasks.reminders.failed")
+                .description("Reminder batches rolled back after an error").register(meterRegistry);
+        this.batchTimer = Timer.builder("tasks.reminders.batch")
+                .description("Time to claim, notify and mark one reminder batch").register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${tasks.reminders.initial-delay:PT30S}",
+            fixedDelayString = "${tasks.reminders.poll-interval:PT30S}")
+    public void poll() {
+        OffsetDateTime dueBefore = OffsetDateTime.now(ZoneOffset.UTC).plus(leadTime);
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int count;
+            try {
+                count = batchTimer.record(() -> reminders.dispatchBatch(dueBefore, batchSize));
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("❌ Reminder batch failed, will retry on next poll: {}", e.getMessage());
+                break;
+            }
+            sent.increment(count);
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("⏰ Sent {} task reminder(s)", total);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.repository.TaskRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * WHY: One reminder batch = one transaction.
+ * Rows are claimed with FOR UPDATE SKIP LOCKED, so instances running the job at the same time take
+ * disjoint batches instead of waiting on each other or sending twice. The notifier runs while the rows
+ * are locked and reminded_at is set before commit; a failure rolls the claim back for a later retry.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskReminderService {
+
+    private final TaskRepository taskRepo;
+    private final TaskReminderNotifier notifier;
+
+    /** Sends reminders for up to {@code batchSize} open tasks due before {@code dueBefore}; returns how many. */
+    @Transactional
+    public int dispatchBatch(OffsetDateTime dueBefore, int batchSize) {
+        var batch = taskRepo.claimDueReminders(dueBefore, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        notifier.send(batch);
+        taskRepo.markReminded(batch.stream().map(r -> r.taskId()).toList(), Instant.now());
+        return batch.size();
+    }
+}
@@ -0,0 +1,39 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.repository.TaskSearchHit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * WHY: Opaque keyset position for search results, ordered by (rank DESC, id ASC).
+ * Float.toString round-trips exactly, so the next page compares against the very same rank value.
+ */
+public record TaskSearchCursor(float rank, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static TaskSearchCursor of(TaskSearchHit hit) {
+        return new TaskSearchCursor(hit.rank(), hit.task().id());
+    }
+
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(SEPARATOR);
+            float rank = Float.parseFloat(raw.substring(0, sep));
+            if (!Float.isFinite(rank)) {
+                throw new NumberFormatException("rank");   // NaN matches no row: an empty page instead of an error
+            }
+            return new TaskSearchCursor(rank, UUID.fromString(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
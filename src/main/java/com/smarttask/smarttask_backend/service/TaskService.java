@@ -1,36 +1,175 @@
 package com.smarttask.smarttask_backend.service;
+import com.smarttask.smarttask_backend.config.ReplicaRead;
+import com.smarttask.smarttask_backend.dto.TaskBatchItemResult;
+import com.smarttask.smarttask_backend.dto.TaskBatchResponse;
+import com.smarttask.smarttask_backend.dto.TaskBulkFilter;
+import com.smarttask.smarttask_backend.dto.TaskChangeEvent;
 import com.smarttask.smarttask_backend.dto.TaskCreateRequest;
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.dto.TaskFields;
+import com.smarttask.smarttask_backend.dto.TaskPageResponse;
 import com.smarttask.smarttask_backend.dto.TaskResponse;
+import com.smarttask.smarttask_backend.dto.TaskStatsResponse;
 import com.smarttask.smarttask_backend.dto.TaskUpdateRequest;
 import com.smarttask.smarttask_backend.entity.Task;
 import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.repository.TaskListVersionRepository;
 import com.smarttask.smarttask_backend.repository.TaskRepository;
+import com.smarttask.smarttask_backend.repository.TaskStatsRepository;
+import com.smarttask.smarttask_backend.repository.TaskView;
 import com.smarttask.smarttask_backend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
-/** WHY: Keeps controllers thin; enforces ownership rules. */
+/**
+ * WHY: Keeps controllers thin; enforces ownership rules.
+ * Callers pass the user id resolved by JwtAuthFilter, so no users lookup happens here.
+ */
 @Service
+@Timed("tasks.service")
 @RequiredArgsConstructor
 public class TaskService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_LENGTH = 200;
+
     private final TaskRepository taskRepo;
     private final UserRepository userRepo;
+    private final TaskListVersionRepository versionRepo;
+    private final TaskStatsRepository statsRepo;
+    private final TaskExportWriter exportWriter;
+    private final TaskImportLoader importLoader;
+    private final Validator validator;
+    private final ApplicationEventPublisher events;
+
+    @Value("${tasks.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${tasks.export.statement-timeout:PT30S}")
+    private Duration exportStatementTimeout;
+
+    @Value("${tasks.export.idle-timeout:PT1M}")
+    private Duration exportIdleTimeout;
+
+    /**
+     * Current version of the user's task list; changes whenever any of their tasks is written.
+     * A single primary-key read, used for conditional GETs.
+     */
+    @ReplicaRead
+    public long listVersion(UUID userId) {
+        return versionRepo.findVersion(userId).orElse(0L);
+    }
+
+    /**
+     * Counts by status plus overdue / due-this-week. A single primary-key read of task_stats,
+     * which the database keeps in step with every write to tasks.
+     */
+    @ReplicaRead
+    public TaskStatsResponse stats(UUID userId) {
+        return statsRepo.findById(userId).map(TaskStatsResponse::from).orElse(TaskStatsResponse.EMPTY);
+    }
+
+    /**
+     * Reads one page straight into TaskView projections (no managed entities).
+     * @param fields requested response fields, null for all; description is only selected when requested
+     */
+    @ReplicaRead
+    public TaskPageResponse list(UUID userId, TaskStatus statusFilter, String cursor, int limit, Set<String> fields) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        var after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists without a COUNT query.
+        var tasks = taskRepo.findPage(userId, statusFilter,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                TaskFields.includes(fields, "description"),
+                limit + 1);
+        boolean hasMore = tasks.size() > limit;
+        var page = hasMore ? tasks.subList(0, limit) : tasks;
+        String nextCursor = hasMore ? TaskCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new TaskPageResponse(page.stream().map(TaskResponse::from).toList(), nextCursor);
+    }
+
+    /**
+     * Ranked full-text search over the user's tasks (title weighs more than description).
+     * Same page shape as list(); the cursor encodes the (rank, id) of the last hit.
+     */
+    @ReplicaRead
+    public TaskPageResponse search(UUID userId, String q, TaskStatus statusFilter, String cursor, int limit) {
+        if (q == null || q.isBlank()) {
+            throw new IllegalArgumentException("q is required");
+        }
+        if (q.length() > MAX_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("q must be at most " + MAX_SEARCH_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        var after = cursor == null || cursor.isBlank() ? null : TaskSearchCursor.decode(cursor);
 
-    public List<TaskResponse> list(String username, TaskStatus statusFilter) {
-        var user = userRepo.findByUsernameAndDeletedFalse(username).orElseThrow();
-        var tasks = statusFilter == null
-                ? taskRepo.findByUser_IdOrderByCreatedAtDesc(user.getId())
-                : taskRepo.findByUser_IdAndStatusOrderByCreatedAtDesc(user.getId(), statusFilter);
-        return tasks.stream().map(this::toResponse).toList();
+        var hits = taskRepo.search(userId, q.trim(), statusFilter,
+                after == null ? null : after.rank(),
+                after == null ? null : after.id(),
+                limit + 1);
+        boolean hasMore = hits.size() > limit;
+        var page = hasMore ? hits.subList(0, limit) : hits;
+        String nextCursor = hasMore ? TaskSearchCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new TaskPageResponse(page.stream().map(h -> TaskResponse.from(h.task())).toList(), nextCursor);
+    }
+
+    /**
+     * Streams every task of the user to out. Holds one read transaction (and pooled connection) for the
+     * duration, because the server-side cursor lives inside it; memory stays flat regardless of row count.
+     * A fetch slower than tasks.export.statement-timeout, or a client that stops reading for longer than
+     * tasks.export.idle-timeout, ends the transaction on the database side and with it the export.
+     * @return the number of tasks written
+     */
+    @ReplicaRead
+    public long export(UUID userId, TaskExportFormat format, OutputStream out) throws IOException {
+        taskRepo.limitTransaction(Long.toString(exportStatementTimeout.toMillis()),
+                Long.toString(exportIdleTimeout.toMillis()));
+        try (var rows = taskRepo.streamForExport(userId)) {
+            return exportWriter.write(rows, format, out);
+        }
+    }
+
+    /**
+     * Imports an upload into the user's tasks through COPY and a single INSERT ... SELECT (TaskImportLoader).
+     * Holds one transaction for the whole upload; invalid rows are recorded for the error file and skipped.
+     * A read error on the upload is checked, so it is named for rollback; otherwise the partial import would commit.
+     */
+    @Transactional(rollbackOn = IOException.class)
+    public TaskImportLoader.Result importTasks(UUID importId, UUID userId, TaskExportFormat format, InputStream in)
+            throws IOException {
+        var result = importLoader.load(importId, userId, format, in);
+        if (result.imported() > 0) {
+            changed(userId, TaskChangeEvent.Type.BULK_CREATED, null, (int) result.imported());
+        }
+        return result;
     }
 
     @Transactional
-    public TaskResponse create(String username, TaskCreateRequest req) {
-        var user = userRepo.findByUsernameAndDeletedFalse(username).orElseThrow();
+    public TaskResponse create(UUID userId, TaskCreateRequest req) {
+        var user = userRepo.getReferenceById(userId);   // FK only, no SELECT
         var status = resolveIncomingStatus(req.status(), req.completed());
         var t = Task.builder()
                 .user(user)
@@ -40,14 +179,62 @@ public class TaskService {
                 .status(status)
                 .build();
         taskRepo.save(t);
-        return toResponse(t);
+        changed(userId, TaskChangeEvent.Type.CREATED, t.getId(), 1);
+        return TaskResponse.from(t);
+    }
+
+    /**
+     * Creates many tasks in one transaction. Items are validated individually; invalid ones are
+     * reported and skipped. Valid ones are flushed as JDBC batches (hibernate.jdbc.batch_size).
+     */
+    @Transactional
+    public TaskBatchResponse createBatch(UUID userId, List<TaskCreateRequest> reqs) {
+        if (reqs == null || reqs.isEmpty()) {
+            throw new IllegalArgumentException("At least one task is required");
+        }
+        if (reqs.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " tasks per batch");
+        }
+        var user = userRepo.getReferenceById(userId);
+        var results = new ArrayList<TaskBatchItemResult>(reqs.size());
+        var toInsert = new ArrayList<Task>(reqs.size());
+
+        for (int i = 0; i < reqs.size(); i++) {
+            var req = reqs.get(i);
+            String error = req == null ? "Task is required" : describeViolations(validator.validate(req));
+            if (error != null) {
+                results.add(new TaskBatchItemResult(i, false, null, error));
+                continue;
+            }
+            var t = Task.builder()
+                    .user(user)
+                    .title(req.title())
+                    .description(req.description())
+                    .dueDate(req.dueDate())
+                    .status(resolveIncomingStatus(req.status(), req.completed()))
+                    .build();
+            toInsert.add(t);
+            results.add(null);   // filled in after persist, when id/createdAt are assigned
+        }
+
+        taskRepo.saveAll(toInsert);
+        if (!toInsert.isEmpty()) {
+            changed(userId, TaskChangeEvent.Type.BULK_CREATED, null, toInsert.size());
+        }
+
+        var inserted = toInsert.iterator();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                results.set(i, new TaskBatchItemResult(i, true, TaskResponse.from(inserted.next()), null));
+            }
+        }
+        return new TaskBatchResponse(toInsert.size(), reqs.size() - toInsert.size(), results);
     }
 
     @Transactional
-    public TaskResponse update(String username, UUID taskId, TaskUpdateRequest req) {
-        var user = userRepo.findByUsernameAndDeletedFalse(username).orElseThrow();
+    public TaskResponse update(UUID userId, UUID taskId, TaskUpdateRequest req) {
         var t = taskRepo.findById(taskId).orElseThrow();
-        if (!t.getUser().getId().equals(user.getId())) throw new IllegalArgumentException("Forbidden");
+        if (!t.getUser().getId().equals(userId)) throw new IllegalArgumentException("Forbidden");
 
         if (req.title() != null) t.setTitle(req.title());
         if (req.description() != null) t.setDescription(req.description());
@@ -56,33 +243,88 @@ public class TaskService {
         } else if (req.completed() != null) {
             t.setCompleted(req.completed());
         }
-        if (req.dueDate() != null) t.setDueDate(req.dueDate());
+        if (req.dueDate() != null) {
+            if (t.getDueDate() == null || !t.getDueDate().isEqual(req.dueDate())) {
+                taskRepo.clearReminder(taskId);   // a moved due date gets its own reminder
+            }
+            t.setDueDate(req.dueDate());
+        }
 
-        return toResponse(t);
+        changed(userId, TaskChangeEvent.Type.UPDATED, t.getId(), 1);
+        return TaskResponse.from(t);
     }
 
     @Transactional
-    public void delete(String username, UUID taskId) {
-        var user = userRepo.findByUsernameAndDeletedFalse(username).orElseThrow();
+    public void delete(UUID userId, UUID taskId) {
         var t = taskRepo.findById(taskId).orElseThrow();
-        if (!t.getUser().getId().equals(user.getId())) throw new IllegalArgumentException("Forbidden");
+        if (!t.getUser().getId().equals(userId)) throw new IllegalArgumentException("Forbidden");
         taskRepo.delete(t);
+        changed(userId, TaskChangeEvent.Type.DELETED, taskId, 1);
+    }
+
+    /** Moves every matching task of the user to newStatus with one UPDATE; returns the number of rows changed. */
+    @Transactional
+    public int bulkUpdateStatus(UUID userId, TaskBulkFilter filter, TaskStatus newStatus) {
+        validateBulkFilter(filter);
+        int affected = taskRepo.bulkUpdateStatus(userId,
+                filter.status(), filter.dueFrom(), filter.dueTo(),
+                filter.hasIds(), bulkIds(filter),
+                newStatus, newStatus == TaskStatus.DONE, Instant.now());
+        if (affected > 0) {
+            changed(userId, TaskChangeEvent.Type.BULK_UPDATED, null, affected);
+        }
+        return affected;
+    }
+
+    /** Deletes every matching task of the user with one DELETE; returns the number of rows removed. */
+    @Transactional
+    public int bulkDelete(UUID userId, TaskBulkFilter filter) {
+        validateBulkFilter(filter);
+        int affected = taskRepo.bulkDelete(userId,
+                filter.status(), filter.dueFrom(), filter.dueTo(),
+                filter.hasIds(), bulkIds(filter));
+        if (affected > 0) {
+            changed(userId, TaskChangeEvent.Type.BULK_DELETED, null, affected);
+        }
+        return affected;
     }
 
-    private TaskResponse toResponse(Task task) {
-        var legacyCompleted = task.getStatus() == TaskStatus.DONE;
-        return new TaskResponse(
-                task.getId().toString(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getStatus(),
-                legacyCompleted,
-                task.getDueDate(),
-                task.getCreatedAt().toString()
-        );
+    /**
+     * Bumps the user's list version (ETag) and publishes the change; the SSE feed forwards it after commit.
+     */
+    private void changed(UUID userId, TaskChangeEvent.Type type, UUID taskId, int count) {
+        long version = versionRepo.bump(userId);
+        events.publishEvent(new TaskChangeEvent(userId, version, type, taskId, count));
+    }
+
+    private void validateBulkFilter(TaskBulkFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            throw new IllegalArgumentException("At least one filter is required");
+        }
+        if (filter.dueFrom() != null && filter.dueTo() != null && !filter.dueFrom().isBefore(filter.dueTo())) {
+            throw new IllegalArgumentException("dueFrom must be before dueTo");
+        }
+        if (filter.hasIds() && filter.ids().size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " ids per request");
+        }
+    }
+
+    private static List<UUID> bulkIds(TaskBulkFilter filter) {
+        // Bind a placeholder so the IN list is never empty; it is ignored when filterIds = false.
+        return filter.hasIds() ? filter.ids() : List.of(new UUID(0, 0));
+    }
+
+    static String describeViolations(Set<ConstraintViolation<TaskCreateRequest>> violations) {
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .collect(Collectors.joining("; "));
     }
 
-    private TaskStatus resolveIncomingStatus(TaskStatus status, Boolean completed) {
+    static TaskStatus resolveIncomingStatus(TaskStatus status, Boolean completed) {
         if (status != null) {
             return status;
         }
@@ -0,0 +1,71 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.repository.TaskStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * WHY: task_stats is maintained by deltas (triggers in V9). Status counts stay exact, but overdue and
+ * due-this-week go stale as time passes, and any manual fix-up of tasks could leave drift.
+ * Each run recomputes the least recently refreshed users from tasks, one bounded statement per batch;
+ * rows with drifted status counts are logged and counted in tasks.stats.drift.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.stats.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskStatsReconciler {
+
+    private final TaskStatsRepository statsRepo;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter drift;
+
+    public TaskStatsReconciler(
+            TaskStatsRepository statsRepo,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.stats.reconcile.batch-size:500}") int batchSize,
+            @Value("${tasks.stats.reconcile.max-batches:20}") int maxBatches
+    ) {
+        this.statsRepo = statsRepo;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.drift = Counter.builder("tasks.stats.drift")
+                .description("task_stats rows whose status counts differed from tasks when reconciled")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${tasks.stats.reconcile.initial-delay:PT1M}",
+            fixedDelayString = "${tasks.stats.reconcile.interval:PT5M}")
+    public void reconcile() {
+        long started = System.nanoTime();
+        Instant runStart = Instant.now();
+        long checked = 0;
+        long drifted = 0;
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                var result = statsRepo.reconcileOldest(runStart, batchSize);
+                checked += result.getChecked();
+                drifted += result.getDrifted();
+                if (result.getChecked() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ Task stats reconciliation failed: {}", e.getMessage());
+        }
+        drift.increment(drifted);
+        if (drifted > 0) {
+            log.warn("⚠️ Repaired drifted task stats for {} user(s)", drifted);
+        }
+        log.debug("📊 Reconciled {} task stats rows in {} ms",
+                checked, Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+}
@@ -13,7 +13,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var u = userRepo.findByUsername(username)
+        var u = userRepo.findByNaturalUsername(username)
                 .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
         return org.springframework.security.core.userdetails.User
@@ -0,0 +1,26 @@
+-- Bulk imports (POST /api/tasks/imports). One row per upload; its counters are updated while the upload
+-- is parsed, so GET /api/tasks/imports/{id} reports progress from any instance.
+CREATE TABLE IF NOT EXISTS task_imports (
+  id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+  user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+  format VARCHAR(10) NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  rows_read BIGINT NOT NULL DEFAULT 0,
+  rows_imported BIGINT NOT NULL DEFAULT 0,
+  rows_rejected BIGINT NOT NULL DEFAULT 0,
+  error TEXT,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+  finished_at TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_imports_user_created ON task_imports(user_id, created_at DESC);
+
+-- Rejected rows of an import (the error file), capped per import by tasks.import.max-errors.
+-- raw is the rejected input record, truncated.
+CREATE TABLE IF NOT EXISTS task_import_errors (
+  import_id UUID NOT NULL REFERENCES task_imports(id) ON DELETE CASCADE,
+  line_no BIGINT NOT NULL,
+  error TEXT NOT NULL,
+  raw TEXT,
+  PRIMARY KEY (import_id, line_no)
+);
@@ -0,0 +1,13 @@
+-- Asymmetric JWT signing keys (security.jwt.algorithm = ES256 / EdDSA), created and rotated by JwtKeyRotation.
+-- A key is published in /.well-known/jwks.json from created_at, signs from activates_at until its successor
+-- activates, and stays published until expires_at, when the last token it signed has expired.
+-- private_key is the PKCS#8 key encrypted with AES-GCM under a key derived from security.jwt.secret.
+CREATE TABLE IF NOT EXISTS jwt_signing_keys (
+  kid VARCHAR(64) PRIMARY KEY,
+  algorithm VARCHAR(10) NOT NULL,
+  public_key BYTEA NOT NULL,
+  private_key BYTEA NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+  activates_at TIMESTAMPTZ NOT NULL,
+  expires_at TIMESTAMPTZ
+);
@@ -0,0 +1,12 @@
+-- Composite indexes backing keyset (cursor) pagination of GET /api/tasks.
+-- Order matches "ORDER BY created_at DESC, id ASC" so every page is a bounded index range scan.
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_status_created
+    ON tasks(user_id, status, created_at DESC, id);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_created
+    ON tasks(user_id, created_at DESC, id);
+
+-- Both older indexes are left-prefixes of the ones above.
+DROP INDEX IF EXISTS idx_tasks_user_status;
+DROP INDEX IF EXISTS idx_tasks_user;
@@ -0,0 +1,6 @@
+-- Per-user task list version used as the ETag of GET /api/tasks.
+-- Incremented in the same transaction as every task create/update/delete.
+CREATE TABLE IF NOT EXISTS task_list_versions (
+  user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+  version BIGINT NOT NULL DEFAULT 0
+);
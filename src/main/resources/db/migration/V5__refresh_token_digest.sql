@@ -0,0 +1,10 @@
+-- Refresh tokens are looked up by SHA-256 digest through a unique index instead of scanning raw strings.
+-- Existing rows are backfilled from the raw token (same bytes as TokenDigest.sha256), then the raw column is dropped.
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash BYTEA;
+
+UPDATE refresh_tokens SET token_hash = sha256(convert_to(token, 'UTF8')) WHERE token_hash IS NULL;
+
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_refresh_token_hash ON refresh_tokens(token_hash);
+
+ALTER TABLE refresh_tokens DROP COLUMN IF EXISTS token;
@@ -0,0 +1,3 @@
+-- Lets RefreshTokenReaper find expired and revoked rows without scanning live ones.
+CREATE INDEX IF NOT EXISTS idx_refresh_expires ON refresh_tokens(expires_at);
+CREATE INDEX IF NOT EXISTS idx_refresh_revoked ON refresh_tokens(id) WHERE revoked;
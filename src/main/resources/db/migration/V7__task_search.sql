@@ -0,0 +1,13 @@
+-- Full-text search over title (weight A) and description (weight B) for GET /api/tasks/search.
+-- The vector is a generated column, so every insert/update path keeps it current without app code.
+-- btree_gin lets one GIN index cover (user_id, search_vector): Postgres intersects the owner's entries
+-- with the matching lexemes instead of collecting every user's matches and filtering afterwards.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+  GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+  ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_search ON tasks USING GIN (user_id, search_vector);
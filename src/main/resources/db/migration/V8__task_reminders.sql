@@ -0,0 +1,10 @@
+-- Due-date reminders: reminded_at marks a task whose reminder was sent.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS reminded_at TIMESTAMPTZ;
+
+-- Tasks already overdue when reminders ship count as handled, so the first run does not flood users.
+UPDATE tasks SET reminded_at = NOW() WHERE due_date < NOW() AND reminded_at IS NULL;
+
+-- Only open, unreminded tasks with a due date are ever claimed; the partial index holds just those,
+-- in due order, and shrinks as reminders go out.
+CREATE INDEX IF NOT EXISTS idx_tasks_reminder_due ON tasks(due_date)
+  WHERE reminded_at IS NULL AND due_date IS NOT NULL AND status <> 'DONE';
@@ -0,0 +1,87 @@
+-- Per-user task counters for GET /api/tasks/stats, read with one primary-key lookup.
+-- Status counts are kept exact by statement-level triggers on tasks: every write path (entity saves,
+-- JDBC batches, JPQL bulk statements) adds its signed per-user delta in the same transaction, with one
+-- upsert per user per statement. overdue/due-week depend on the clock as well; writes adjust them
+-- relative to now() and TaskStatsReconciler recomputes them (refreshed_at) on a schedule.
+CREATE TABLE IF NOT EXISTS task_stats (
+  user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+  todo_count BIGINT NOT NULL DEFAULT 0,
+  in_progress_count BIGINT NOT NULL DEFAULT 0,
+  done_count BIGINT NOT NULL DEFAULT 0,
+  overdue_count BIGINT NOT NULL DEFAULT 0,
+  due_week_count BIGINT NOT NULL DEFAULT 0,
+  refreshed_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_stats_refreshed ON task_stats(refreshed_at);
+
+CREATE TYPE task_stats_change AS (user_id UUID, status VARCHAR(20), due_date TIMESTAMPTZ, sign INT);
+
+-- Sums the changes per user and folds them into task_stats. Users being deleted (ON DELETE CASCADE
+-- of their tasks) are skipped; their stats row goes with them.
+CREATE OR REPLACE FUNCTION task_stats_merge(changes task_stats_change[]) RETURNS void LANGUAGE sql AS $$
+  INSERT INTO task_stats AS s (user_id, todo_count, in_progress_count, done_count, overdue_count, due_week_count)
+  SELECT c.user_id,
+         coalesce(sum(c.sign) FILTER (WHERE c.status = 'TODO'), 0),
+         coalesce(sum(c.sign) FILTER (WHERE c.status = 'IN_PROGRESS'), 0),
+         coalesce(sum(c.sign) FILTER (WHERE c.status = 'DONE'), 0),
+         coalesce(sum(c.sign) FILTER (WHERE c.status <> 'DONE' AND c.due_date < now()), 0),
+         coalesce(sum(c.sign) FILTER (WHERE c.status <> 'DONE' AND c.due_date >= now()
+                                        AND c.due_date < now() + interval '7 days'), 0)
+    FROM unnest(changes) c
+   WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = c.user_id)
+   GROUP BY c.user_id
+  ON CONFLICT (user_id) DO UPDATE SET
+    todo_count        = s.todo_count + EXCLUDED.todo_count,
+    in_progress_count = s.in_progress_count + EXCLUDED.in_progress_count,
+    done_count        = s.done_count + EXCLUDED.done_count,
+    overdue_count     = s.overdue_count + EXCLUDED.overdue_count,
+    due_week_count    = s.due_week_count + EXCLUDED.due_week_count;
+$$;
+
+CREATE OR REPLACE FUNCTION task_stats_on_change() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    PERFORM task_stats_merge(ARRAY(
+      SELECT ROW(n.user_id, n.status, n.due_date, 1)::task_stats_change FROM new_rows n));
+  ELSIF TG_OP = 'DELETE' THEN
+    PERFORM task_stats_merge(ARRAY(
+      SELECT ROW(o.user_id, o.status, o.due_date, -1)::task_stats_change FROM old_rows o));
+  ELSE
+    -- Only rows whose counted attributes changed; title edits and reminder stamps are free.
+    PERFORM task_stats_merge(ARRAY(
+      SELECT ROW(n.user_id, n.status, n.due_date, 1)::task_stats_change
+        FROM new_rows n JOIN old_rows o ON o.id = n.id
+       WHERE (n.user_id, n.status, n.due_date) IS DISTINCT FROM (o.user_id, o.status, o.due_date)
+      UNION ALL
+      SELECT ROW(o.user_id, o.status, o.due_date, -1)::task_stats_change
+        FROM old_rows o JOIN new_rows n ON n.id = o.id
+       WHERE (n.user_id, n.status, n.due_date) IS DISTINCT FROM (o.user_id, o.status, o.due_date)));
+  END IF;
+  RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER task_stats_insert AFTER INSERT ON tasks
+  REFERENCING NEW TABLE AS new_rows
+  FOR EACH STATEMENT EXECUTE FUNCTION task_stats_on_change();
+
+CREATE TRIGGER task_stats_update AFTER UPDATE ON tasks
+  REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+  FOR EACH STATEMENT EXECUTE FUNCTION task_stats_on_change();
+
+CREATE TRIGGER task_stats_delete AFTER DELETE ON tasks
+  REFERENCING OLD TABLE AS old_rows
+  FOR EACH STATEMENT EXECUTE FUNCTION task_stats_on_change();
+
+-- Backfill existing users.
+INSERT INTO task_stats (user_id, todo_count, in_progress_count, done_count, overdue_count, due_week_count)
+SELECT t.user_id,
+       count(*) FILTER (WHERE t.status = 'TODO'),
+       count(*) FILTER (WHERE t.status = 'IN_PROGRESS'),
+       count(*) FILTER (WHERE t.status = 'DONE'),
+       count(*) FILTER (WHERE t.status <> 'DONE' AND t.due_date < now()),
+       count(*) FILTER (WHERE t.status <> 'DONE' AND t.due_date >= now() AND t.due_date < now() + interval '7 days')
+  FROM tasks t
+ GROUP BY t.user_id
+ON CONFLICT (user_id) DO NOTHING;
@@ -0,0 +1,70 @@
+package com.smarttask.smarttask_backend;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Test-scope StatementInspector: records the SQL Hibernate prepares on the recording thread, by kind.
+ * Delegates to the inspector the application configured (QueryCounter) so production behaviour is kept.
+ * Only the thread that called start() is recorded, so scheduled jobs running meanwhile do not count.
+ */
+public final class SqlStatementRecorder implements StatementInspector {
+
+    public enum Kind { SELECT, INSERT, UPDATE, DELETE, OTHER }
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    private final StatementInspector delegate;
+
+    SqlStatementRecorder(StatementInspector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+        return delegate == null ? sql : delegate.inspect(sql);
+    }
+
+    static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    /** Stops recording on this thread and returns what was recorded since start(). */
+    static Recorded stop() {
+        List<String> recorded = RECORDED.get();
+        RECORDED.remove();
+        return new Recorded(recorded == null ? List.of() : List.copyOf(recorded));
+    }
+
+    public record Recorded(List<String> statements) {
+
+        public Map<Kind, Integer> counts() {
+            var counts = new EnumMap<Kind, Integer>(Kind.class);
+            for (Kind kind : Kind.values()) {
+                counts.put(kind, 0);
+            }
+            statements.forEach(sql -> counts.merge(kindOf(sql), 1, Integer::sum));
+            return counts;
+        }
+
+        private static Kind kindOf(String sql) {
+            String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+            // CTEs and upserts that start with WITH / INSERT ... ON CONFLICT are classified by their first keyword.
+            for (Kind kind : Kind.values()) {
+                if (head.startsWith(kind.name().toLowerCase(Locale.ROOT))) {
+                    return kind;
+                }
+            }
+            return Kind.OTHER;
+        }
+    }
+}
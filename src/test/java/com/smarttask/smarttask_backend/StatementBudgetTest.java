@@ -0,0 +1,202 @@
+package com.smarttask.smarttask_backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarttask.smarttask_backend.SqlStatementRecorder.Kind;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * SQL statement budgets per endpoint, so an N+1 or an extra round-trip fails the build.
+ * Runs against an embedded Postgres started by the test (same Flyway migrations, no external services).
+ * Requests are measured with the caller's principal already cached, the steady state of a logged-in client.
+ * When a budget is exceeded the failure lists the statements; lower a budget when a change saves queries.
+ */
+@SpringBootTest(properties = {
+        "security.jwt.secret=dGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQ=",
+        "security.rate-limit.enabled=false",
+        "tasks.reminders.enabled=false",
+        "tasks.stats.reconcile.enabled=false",
+        "security.refresh-reaper.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@AutoConfigureMockMvc
+class StatementBudgetTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper json;
+
+    private String username;
+    private String accessToken;
+    private String refreshToken;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> embeddedPostgres().getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    private static synchronized EmbeddedPostgres embeddedPostgres() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.start();   // stopped by its own shutdown hook
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return postgres;
+    }
+
+    @TestConfiguration
+    static class RecorderConfig {
+        @Bean
+        @Order(Ordered.LOWEST_PRECEDENCE)
+        HibernatePropertiesCustomizer statementRecorder() {
+            return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    new SqlStatementRecorder((StatementInspector) props.get(AvailableSettings.STATEMENT_INSPECTOR)));
+        }
+    }
+
+    @BeforeEach
+    void signIn() throws Exception {
+        username = "budget-" + UUID.randomUUID().toString().substring(0, 8);
+        perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(json.writeValueAsString(
+                Map.of("username", username, "email", username + "@test.local", "password", "pw"))));
+        JsonNode tokens = perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content(json.writeValueAsString(Map.of("username", username, "password", "pw"))));
+        accessToken = tokens.get("accessToken").asText();
+        refreshToken = tokens.get("refreshToken").asText();
+        perform(get("/api/tasks/stats").header("Authorization", bearer()));   // caches the principal
+    }
+
+    @Test
+    void listTasks() throws Exception {
+        createTasks(3);
+        assertBudget(get("/api/tasks").header("Authorization", bearer()),
+                Map.of(Kind.SELECT, 2));   // list version (ETag) + page
+    }
+
+    @Test
+    void createTask() throws Exception {
+        assertBudget(post("/api/tasks").header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"t\"}"),
+                Map.of(Kind.INSERT, 2));   // task + list version upsert
+    }
+
+    @Test
+    void updateTask() throws Exception {
+        String id = createTasks(1);
+        assertBudget(put("/api/tasks/" + id).header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"DONE\"}"),
+                Map.of(Kind.SELECT, 1, Kind.INSERT, 1, Kind.UPDATE, 1));   // task (owner id via proxy, no user load)
+    }
+
+    @Test
+    void deleteTask() throws Exception {
+        String id = createTasks(1);
+        assertBudget(delete("/api/tasks/" + id).header("Authorization", bearer()),
+                Map.of(Kind.SELECT, 1, Kind.INSERT, 1, Kind.DELETE, 1));   // task, list version upsert, the delete
+    }
+
+    @Test
+    void login() throws Exception {
+        assertBudget(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content(json.writeValueAsString(Map.of("username", username, "password", "pw"))),
+                Map.of(Kind.INSERT, 1));   // new refresh token; the user comes from the second-level cache
+    }
+
+    @Test
+    void refresh() throws Exception {
+        assertBudget(post("/api/auth/refresh").param("refreshToken", refreshToken),
+                Map.of(Kind.SELECT, 1, Kind.INSERT, 1, Kind.UPDATE, 1));   // token with its user, new token, revoke old
+    }
+
+    @Test
+    void logout() throws Exception {
+        assertBudget(post("/api/auth/logout").header("Authorization", bearer()),
+                Map.of(Kind.DELETE, 1));   // every token of the user in one statement
+    }
+
+    /** Creates tasks for the signed-in user (outside any measurement) and returns the id of the last one. */
+    private String createTasks(int count) throws Exception {
+        String id = null;
+        for (int i = 0; i < count; i++) {
+            id = perform(post("/api/tasks").header("Authorization", bearer())
+                    .contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"task " + i + "\"}"))
+                    .get("id").asText();
+        }
+        return id;
+    }
+
+    private void assertBudget(RequestBuilder request, Map<Kind, Integer> budget) throws Exception {
+        SqlStatementRecorder.start();
+        int status;
+        SqlStatementRecorder.Recorded recorded;
+        try {
+            status = mvc.perform(request).andReturn().getResponse().getStatus();
+        } finally {
+            recorded = SqlStatementRecorder.stop();
+        }
+        assertTrue(status < 300, "request failed with status " + status);
+        assertFalse(recorded.statements().isEmpty(), "no statements recorded; is SqlStatementRecorder installed?");
+
+        var counts = recorded.counts();
+        for (Kind kind : Kind.values()) {
+            int allowed = budget.getOrDefault(kind, 0);
+            if (counts.get(kind) > allowed) {
+                fail(kind + " budget is " + allowed + ", request issued " + counts.get(kind) + ":\n  "
+                        + String.join("\n  ", recorded.statements()));
+            }
+        }
+        assertEquals(budget.values().stream().mapToInt(Integer::intValue).sum(), recorded.statements().size(),
+                () -> "request now issues fewer statements than budgeted; lower the budget:\n  "
+                        + String.join("\n  ", recorded.statements()));
+    }
+
+    private JsonNode perform(RequestBuilder request) throws Exception {
+        var response = mvc.perform(request).andReturn().getResponse();
+        assertTrue(response.getStatus() < 300, "setup request failed: " + response.getContentAsString());
+        String body = response.getContentAsString();
+        return body.isEmpty() ? null : json.readTree(body);
+    }
+
+    private String bearer() {
+        return "Bearer " + accessToken;
+    }
+}
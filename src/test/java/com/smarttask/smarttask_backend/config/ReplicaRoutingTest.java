@@ -0,0 +1,188 @@
+package com.smarttask.smarttask_backend.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Routing of @ReplicaRead transactions, against two embedded Postgres instances: one is the primary,
+ * the other stands in for a replica. They are independent servers (no streaming replication), so the
+ * replica gets the schema from the same Flyway migrations, and each test seeds a different task on
+ * each side: the titles a read returns show which server answered it.
+ * Replay lag cannot happen between independent servers; it is simulated through ReplicaRouter.replayLag.
+ */
+@SpringBootTest(properties = {
+        "security.jwt.secret=dGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQ=",
+        "security.rate-limit.enabled=false",
+        "tasks.reminders.enabled=false",
+        "tasks.stats.reconcile.enabled=false",
+        "security.refresh-reaper.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "db.replica.enabled=true",
+        "db.replica.health-interval=PT1H",   // the tests run the health check themselves
+        "db.replica.connect-timeout=PT0.5S"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+    private static final String ON_PRIMARY = "primary copy";
+    private static final String ON_REPLICA = "replica copy";
+
+    private static EmbeddedPostgres primary;
+    private static EmbeddedPostgres replica;
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper json;
+    @Autowired
+    private MeterRegistry meters;
+    @MockitoSpyBean
+    private ReplicaRouter router;
+
+    private String accessToken;
+
+    @DynamicPropertySource
+    static void datasources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> primary().getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("db.replica.urls", () -> replica().getJdbcUrl("postgres", "postgres"));
+    }
+
+    private static synchronized EmbeddedPostgres primary() {
+        if (primary == null) {
+            primary = start();
+        }
+        return primary;
+    }
+
+    private static synchronized EmbeddedPostgres replica() {
+        if (replica == null) {
+            replica = start();
+            Flyway.configure().dataSource(replica.getPostgresDatabase()).load().migrate();
+        }
+        return replica;
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.start();   // stopped by its own shutdown hook
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @BeforeEach
+    void signInAndSeed() throws Exception {
+        String username = "replica-" + UUID.randomUUID().toString().substring(0, 8);
+        perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(json.writeValueAsString(
+                Map.of("username", username, "email", username + "@test.local", "password", "pw"))));
+        accessToken = perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content(json.writeValueAsString(Map.of("username", username, "password", "pw"))))
+                .get("accessToken").asText();
+
+        // Written behind the application's back, so no task change event pins the user to the primary.
+        var primaryDb = new JdbcTemplate(primary.getPostgresDatabase());
+        UUID userId = primaryDb.queryForObject("SELECT id FROM users WHERE username = ?", UUID.class, username);
+        primaryDb.update("INSERT INTO tasks (user_id, title) VALUES (?, ?)", userId, ON_PRIMARY);
+        var replicaDb = new JdbcTemplate(replica.getPostgresDatabase());
+        replicaDb.update("INSERT INTO users (id, username, email, password) VALUES (?, ?, ?, 'x')",
+                userId, username, username + "@test.local");
+        replicaDb.update("INSERT INTO tasks (user_id, title) VALUES (?, ?)", userId, ON_REPLICA);
+
+        router.checkHealth();
+    }
+
+    @Test
+    void readsGoToTheReplica() throws Exception {
+        double before = reads("replica");
+        assertEquals(List.of(ON_REPLICA), listTitles());
+        assertTrue(reads("replica") > before, "no read was routed to the replica");
+    }
+
+    @Test
+    void readsStayOnThePrimaryAfterTheUsersOwnWrite() throws Exception {
+        perform(post("/api/tasks").header("Authorization", bearer())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"new\"}"));
+        double before = reads("recent-write");
+        assertEquals(List.of("new", ON_PRIMARY), listTitles());
+        assertTrue(reads("recent-write") > before, "read was not counted as kept on the primary");
+    }
+
+    @Test
+    void laggingReplicaIsTakenOutOfRotation() throws Exception {
+        doReturn(30.0).when(router).replayLag(any());   // db.replica.max-lag is PT1S
+        router.checkHealth();
+        double before = reads("unavailable");
+        assertEquals(List.of(ON_PRIMARY), listTitles());
+        assertTrue(reads("unavailable") > before, "read was not counted as having no replica");
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhenTheReplicaIsDown() throws Exception {
+        // The replica server stays up for the other tests; its database just refuses connections.
+        var admin = new JdbcTemplate(replica.getDatabase("postgres", "template1"));
+        admin.execute("ALTER DATABASE postgres ALLOW_CONNECTIONS false");
+        try {
+            admin.execute("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE datname = 'postgres'");
+            router.checkHealth();
+            double before = reads("unavailable");
+            assertEquals(List.of(ON_PRIMARY), listTitles());
+            assertTrue(reads("unavailable") > before, "read was not counted as having no replica");
+        } finally {
+            admin.execute("ALTER DATABASE postgres ALLOW_CONNECTIONS true");
+        }
+    }
+
+    private List<String> listTitles() throws Exception {
+        var titles = new ArrayList<String>();
+        perform(get("/api/tasks").header("Authorization", bearer()))
+                .get("items").forEach(item -> titles.add(item.get("title").asText()));
+        return titles;
+    }
+
+    private double reads(String route) {
+        return meters.get("db.replica.reads").tag("route", route).counter().count();
+    }
+
+    private JsonNode perform(RequestBuilder request) throws Exception {
+        var response = mvc.perform(request).andReturn().getResponse();
+        assertTrue(response.getStatus() < 300, "request failed: " + response.getContentAsString());
+        String body = response.getContentAsString();
+        return body.isEmpty() ? null : json.readTree(body);
+    }
+
+    private String bearer() {
+        return "Bearer " + accessToken;
+    }
+}
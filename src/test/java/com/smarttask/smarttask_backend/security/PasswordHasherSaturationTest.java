@@ -0,0 +1,167 @@
+package com.smarttask.smarttask_backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Login under hashing overload: one hash thread, one queue slot. Logins with the password "stuck" hold
+ * their hash until the test releases them, so the executor can be saturated deterministically.
+ */
+@SpringBootTest(properties = {
+        "security.jwt.secret=dGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQtdGVzdC1zZWNyZXQ=",
+        "security.rate-limit.enabled=false",
+        "tasks.reminders.enabled=false",
+        "tasks.stats.reconcile.enabled=false",
+        "security.refresh-reaper.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "security.password.hash-threads=1",
+        "security.password.hash-queue=1",
+        "security.password.max-wait=PT0.5S",
+        "security.password.retry-after=PT3S"
+})
+@AutoConfigureMockMvc
+class PasswordHasherSaturationTest {
+
+    private static final String STUCK = "stuck";
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper json;
+    @Autowired
+    private MeterRegistry meters;
+    @MockitoSpyBean
+    private PasswordEncoder encoder;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger stuckHashes = new AtomicInteger();
+    private final List<CompletableFuture<MockHttpServletResponse>> stuck = new ArrayList<>();
+    private String username;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> embeddedPostgres().getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    private static synchronized EmbeddedPostgres embeddedPostgres() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.start();   // stopped by its own shutdown hook
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return postgres;
+    }
+
+    @BeforeEach
+    void register() throws Exception {
+        username = "busy-" + UUID.randomUUID().toString().substring(0, 8);
+        var response = mvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content(json.writeValueAsString(Map.of("username", username, "email", username + "@test.local",
+                        "password", "pw")))).andReturn().getResponse();
+        assertTrue(response.getStatus() < 300, response.getContentAsString());
+        doAnswer(inv -> {
+            stuckHashes.incrementAndGet();
+            release.await(10, TimeUnit.SECONDS);
+            return inv.callRealMethod();
+        }).when(encoder).matches(eq(STUCK), anyString());
+    }
+
+    @AfterEach
+    void releaseStuckLogins() {
+        release.countDown();
+        stuck.forEach(CompletableFuture::join);
+    }
+
+    @Test
+    void fullQueueAnswers503WithRetryAfter() throws Exception {
+        loginInBackground();   // runs on the hash thread
+        awaitHashing(1, 0);
+        loginInBackground();   // takes the queue slot
+        awaitHashing(1, 1);
+
+        var response = login("pw");
+        assertEquals(503, response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void waitLongerThanMaxWaitAnswers503() throws Exception {
+        loginInBackground();
+        awaitHashing(1, 0);
+
+        long started = System.nanoTime();
+        var response = login("pw");   // queued behind the stuck hash, gives up after max-wait
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        assertEquals(503, response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(waitedMillis >= 500 && waitedMillis < 5_000, "waited " + waitedMillis + " ms");
+    }
+
+    private void loginInBackground() {
+        stuck.add(CompletableFuture.supplyAsync(() -> {
+            try {
+                return login(STUCK);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+    }
+
+    private MockHttpServletResponse login(String password) throws Exception {
+        return mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content(json.writeValueAsString(Map.of("username", username, "password", password))))
+                .andReturn().getResponse();
+    }
+
+    /** Waits until this many stuck hashes are running and this many jobs are queued behind them. */
+    private void awaitHashing(int running, int queued) throws InterruptedException {
+        var queue = meters.get("auth.password.hash.queue").gauge();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (stuckHashes.get() != running || queue.value() != queued) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("executor did not reach " + running + " running / " + queued + " queued");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
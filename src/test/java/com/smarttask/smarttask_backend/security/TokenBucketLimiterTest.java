@@ -0,0 +1,57 @@
+package com.smarttask.smarttask_backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketLimiterTest {
+
+    @Test
+    void admitsTheBurstThenRejectsUntilRefilled() {
+        var limiter = new TokenBucketLimiter(3, 1, 100);   // one token per minute
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("ip"));
+        }
+        long wait = limiter.tryAcquire("ip");
+        assertTrue(wait > Duration.ofSeconds(59).toNanos() && wait <= Duration.ofMinutes(1).toNanos(),
+                "wait was " + wait + " ns");
+        assertEquals(0, limiter.tryAcquire("other-ip"), "keys have separate buckets");
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate() throws InterruptedException {
+        var limiter = new TokenBucketLimiter(1, 600, 100);   // one token per 100 ms
+        assertEquals(0, limiter.tryAcquire("ip"));
+        long wait = limiter.tryAcquire("ip");
+        assertTrue(wait > 0, "second call should wait for a refill");
+        TimeUnit.NANOSECONDS.sleep(wait + TimeUnit.MILLISECONDS.toNanos(5));
+        assertEquals(0, limiter.tryAcquire("ip"));
+        assertTrue(limiter.tryAcquire("ip") > 0, "refill adds one token, not a new burst");
+    }
+
+    @Test
+    void evictsOnlyRefilledBuckets() throws InterruptedException {
+        var limiter = new TokenBucketLimiter(1, 600, 100);
+        limiter.tryAcquire("ip");
+        assertEquals(0, limiter.evictIdle());
+        TimeUnit.MILLISECONDS.sleep(110);
+        assertEquals(1, limiter.evictIdle());
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    void newKeysShareAnOverflowBucketWhenFull() {
+        var limiter = new TokenBucketLimiter(2, 1, 1);
+        limiter.tryAcquire("tracked");
+        assertEquals(0, limiter.tryAcquire("new-1"));
+        assertEquals(0, limiter.tryAcquire("new-2"));
+        assertTrue(limiter.tryAcquire("new-3") > 0, "untracked keys must not bypass the limit");
+        assertTrue(limiter.tryAcquire("new-1") > 0);
+        assertEquals(1, limiter.size());
+        assertEquals(0, limiter.tryAcquire("tracked"), "tracked keys keep their own bucket");
+    }
+}
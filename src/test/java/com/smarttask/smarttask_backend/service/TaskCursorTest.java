@@ -0,0 +1,47 @@
+package com.smarttask.smarttask_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** Rejections surface as IllegalArgumentException, which GlobalExceptionHandler answers with 400. */
+class TaskCursorTest {
+
+    @Test
+    void roundTrips() {
+        var cursor = new TaskCursor(Instant.parse("2026-10-18T07:53:02.854629Z"), UUID.randomUUID());
+        assertEquals(cursor, TaskCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void isUrlSafe() {
+        String encoded = new TaskCursor(Instant.now(), UUID.randomUUID()).encode();
+        assertEquals(encoded, encoded.replaceAll("[^A-Za-z0-9_-]", ""));
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        String id = UUID.randomUUID().toString();
+        for (String cursor : new String[] {
+                "",
+                "not base64!",
+                encode("2026-10-18T07:53:02Z"),              // no separator
+                encode("yesterday|" + id),
+                encode("2026-10-18T07:53:02Z|not-a-uuid"),
+                new TaskCursor(Instant.now(), UUID.randomUUID()).encode().substring(3),   // truncated
+        }) {
+            var e = assertThrows(IllegalArgumentException.class, () -> TaskCursor.decode(cursor), cursor);
+            assertEquals("Invalid cursor", e.getMessage());
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,83 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import com.smarttask.smarttask_backend.repository.TaskExportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/** Export output byte for byte; TaskImportParserTest reads CSV cells back. */
+class TaskExportWriterTest {
+
+    // Serializes dates like Spring Boot's ObjectMapper.
+    private final TaskExportWriter writer = new TaskExportWriter(JsonMapper.builder().findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build());
+
+    private static final UUID ID_1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID ID_2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final Instant CREATED = Instant.parse("2026-01-02T03:04:05Z");
+
+    @Test
+    void ndjsonIsOneObjectPerLineWithNothingBetween() throws IOException {
+        String out = write(TaskExportFormat.NDJSON);
+        assertEquals("""
+                {"id":"00000000-0000-0000-0000-000000000001","title":"first","description":null,"status":"TODO",\
+                "dueDate":null,"createdAt":"2026-01-02T03:04:05Z","updatedAt":"2026-01-02T03:04:05Z"}
+                {"id":"00000000-0000-0000-0000-000000000002","title":"a, \\"b\\"","description":"two\\nlines","status":"DONE",\
+                "dueDate":"2030-01-01T00:00:00Z","createdAt":"2026-01-02T03:04:05Z","updatedAt":"2026-01-02T03:04:05Z"}
+                """, out);
+    }
+
+    @Test
+    void csvHasAHeaderAndCrlfRecords() throws IOException {
+        String out = write(TaskExportFormat.CSV);
+        assertEquals("id,title,description,status,completed,dueDate,createdAt,updatedAt\r\n"
+                + "00000000-0000-0000-0000-000000000001,first,,TODO,false,,2026-01-02T03:04:05Z,2026-01-02T03:04:05Z\r\n"
+                + "00000000-0000-0000-0000-000000000002,\"a, \"\"b\"\"\",\"two\nlines\",DONE,true,2030-01-01T00:00Z,"
+                + "2026-01-02T03:04:05Z,2026-01-02T03:04:05Z\r\n", out);
+    }
+
+    @Test
+    void plainTextIsWrittenAsIs() {
+        assertEquals("", TaskExportWriter.csvText(null));
+        assertEquals("", TaskExportWriter.csvText(""));
+        assertEquals("buy milk", TaskExportWriter.csvText("buy milk"));
+    }
+
+    @Test
+    void separatorsQuotesAndLineBreaksAreQuoted() {
+        assertEquals("\"a,b\"", TaskExportWriter.csvText("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", TaskExportWriter.csvText("say \"hi\""));
+        assertEquals("\"one\ntwo\"", TaskExportWriter.csvText("one\ntwo"));
+        assertEquals("\"one\r\ntwo\"", TaskExportWriter.csvText("one\r\ntwo"));
+    }
+
+    @Test
+    void formulaCellsAreDefused() {
+        assertEquals("'=1+1", TaskExportWriter.csvText("=1+1"));
+        assertEquals("'@SUM(A1)", TaskExportWriter.csvText("@SUM(A1)"));
+        assertEquals("\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\"", TaskExportWriter.csvText("=HYPERLINK(\"x\",\"y\")"));
+        assertEquals("a=b", TaskExportWriter.csvText("a=b"));
+    }
+
+    private String write(TaskExportFormat format) throws IOException {
+        var rows = Stream.of(
+                new TaskExportRow(ID_1, "first", null, TaskStatus.TODO, null, CREATED, CREATED),
+                new TaskExportRow(ID_2, "a, \"b\"", "two\nlines", TaskStatus.DONE,
+                        OffsetDateTime.parse("2030-01-01T00:00:00Z"), CREATED, CREATED));
+        var out = new ByteArrayOutputStream();
+        assertEquals(2, writer.write(rows, format, out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
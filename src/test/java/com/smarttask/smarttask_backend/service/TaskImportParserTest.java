@@ -0,0 +1,141 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.smarttask.smarttask_backend.dto.TaskCreateRequest;
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Parsing of import uploads, record by record, without a database. */
+class TaskImportParserTest {
+
+    // Configured like TaskImportLoader's reader.
+    private static final ObjectReader JSON = JsonMapper.builder().findAndAddModules().build()
+            .readerFor(TaskCreateRequest.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+
+    @Test
+    void csvQuotedFieldsFollowRfc4180() throws IOException {
+        var rows = parse(TaskExportFormat.CSV, "title,description\r\n\"a, b\",\"say \"\"hi\"\"\"\r\nplain,\r\n");
+        assertEquals(2, rows.size());
+        assertEquals("a, b", rows.get(0).task().title());
+        assertEquals("say \"hi\"", rows.get(0).task().description());
+        assertEquals("plain", rows.get(1).task().title());
+        assertNull(rows.get(1).task().description());
+    }
+
+    @Test
+    void csvQuotedFieldMaySpanLines() throws IOException {
+        var rows = parse(TaskExportFormat.CSV, "title,description\n\"first\nsecond\",x\nnext,y\n");
+        assertEquals("first\nsecond", rows.get(0).task().title());
+        assertEquals(2, rows.get(0).line());
+        assertEquals(4, rows.get(1).line());   // line numbers count the embedded line break
+    }
+
+    @Test
+    void csvByteOrderMarkIsSkipped() throws IOException {
+        var rows = parse(TaskExportFormat.CSV, "\uFEFFtitle\ntask\n");
+        assertEquals("task", rows.get(0).task().title());
+    }
+
+    @Test
+    void csvReadsExportColumnsAndIgnoresUnknownOnes() throws IOException {
+        var rows = parse(TaskExportFormat.CSV, "id,title,status,completed,due_date\n1,t,in_progress,false,2030-01-02T03:04:05Z\n");
+        var task = rows.get(0).task();
+        assertEquals(TaskStatus.IN_PROGRESS, task.status());
+        assertEquals(false, task.completed());
+        assertEquals(OffsetDateTime.parse("2030-01-02T03:04:05Z"), task.dueDate());
+    }
+
+    @Test
+    void csvRejectsBadRecordsAndCarriesOn() throws IOException {
+        var parser = parser(TaskExportFormat.CSV, "title,status\na,b,c\nt,LATER\nok,DONE\n");
+        var wrongColumns = parser.next();
+        assertEquals("expected 2 columns, found 3", wrongColumns.error());
+        assertEquals("a,b,c", parser.raw());
+        assertEquals("status: must be TODO, IN_PROGRESS or DONE", parser.next().error());
+        assertEquals(TaskStatus.DONE, parser.next().task().status());
+        assertNull(parser.next());
+    }
+
+    @Test
+    void csvHeaderMustNameTitle() {
+        var e = assertThrows(IllegalArgumentException.class, () -> parse(TaskExportFormat.CSV, "name,description\nx,y\n"));
+        assertEquals("CSV header must include a title column", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> parse(TaskExportFormat.CSV, ""));
+    }
+
+    @Test
+    void csvUnbalancedQuoteIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> parse(TaskExportFormat.CSV, "title\n\"never closed\n"));
+        String runaway = "title\n\"" + "a".repeat(TaskImportParser.MAX_RECORD_CHARS) + "\"\n";
+        var e = assertThrows(IllegalArgumentException.class, () -> parse(TaskExportFormat.CSV, runaway));
+        assertTrue(e.getMessage().startsWith("Record at line 2 is longer than"), e.getMessage());
+    }
+
+    @Test
+    void ndjsonReadsOneObjectPerLine() throws IOException {
+        var rows = parse(TaskExportFormat.NDJSON, "{\"title\":\"a\",\"id\":\"ignored\"}\r\n\n{\"title\":\"b\",\"status\":\"DONE\"}");
+        assertEquals(2, rows.size());
+        assertEquals("a", rows.get(0).task().title());
+        assertEquals(3, rows.get(1).line());
+        assertEquals(TaskStatus.DONE, rows.get(1).task().status());
+    }
+
+    @Test
+    void ndjsonErrorsAreReportedPerLine() throws IOException {
+        var rows = parse(TaskExportFormat.NDJSON, String.join("\n",
+                "{\"title\":",
+                "[1]",
+                "null",
+                "{\"title\":\"a\"} {\"title\":\"b\"}",
+                "{\"title\":\"a\",\"dueDate\":\"soon\"}"));
+        assertEquals(List.of("invalid JSON",
+                        "expected one JSON object per line",
+                        "expected one JSON object per line",
+                        "expected one JSON object per line",
+                        "dueDate: invalid value"),
+                rows.stream().map(TaskImportParser.Row::error).toList());
+    }
+
+    @Test
+    void ndjsonOverlongLineIsRejected() {
+        String line = "{\"title\":\"" + "a".repeat(TaskImportParser.MAX_RECORD_CHARS) + "\"}\n";
+        assertThrows(IllegalArgumentException.class, () -> parse(TaskExportFormat.NDJSON, line));
+    }
+
+    @Test
+    void exportedCsvTextReadsBackUnchanged() throws IOException {
+        String title = "quote \" comma , and\r\nline break";
+        var rows = parse(TaskExportFormat.CSV, "title\r\n" + TaskExportWriter.csvText(title) + "\r\n");
+        assertEquals(title, rows.get(0).task().title());
+    }
+
+    private static List<TaskImportParser.Row> parse(TaskExportFormat format, String upload) throws IOException {
+        var parser = parser(format, upload);
+        var rows = new ArrayList<TaskImportParser.Row>();
+        for (var row = parser.next(); row != null; row = parser.next()) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static TaskImportParser parser(TaskExportFormat format, String upload) {
+        return new TaskImportParser(format, new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)), JSON);
+    }
+}
@@ -0,0 +1,73 @@
+package com.smarttask.smarttask_backend.service;
+
+import com.smarttask.smarttask_backend.dto.TaskExportFormat;
+import com.smarttask.smarttask_backend.entity.TaskImport;
+import com.smarttask.smarttask_backend.exception.ServiceBusyException;
+import com.smarttask.smarttask_backend.repository.TaskImportRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** The import bulkhead only; TaskService is mocked so a running import can be held open. */
+class TaskImportServiceTest {
+
+    private final TaskService tasks = mock(TaskService.class);
+    private final TaskImportRepository importRepo = mock(TaskImportRepository.class);
+
+    @Test
+    void importsBeyondMaxConcurrentAreRefusedBeforeTouchingTheDatabase() throws Exception {
+        var service = new TaskImportService(tasks, importRepo, new SimpleMeterRegistry(), 1, 10, Duration.ofSeconds(7));
+        var job = TaskImport.builder().id(UUID.randomUUID()).userId(UUID.randomUUID())
+                .format(TaskExportFormat.NDJSON).status(TaskImport.Status.LOADING).build();
+        when(importRepo.save(any())).thenReturn(job);
+        when(importRepo.findById(job.getId())).thenReturn(Optional.of(job));
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return new TaskImportLoader.Result(0, 0, 0);
+        }).when(tasks).importTasks(any(), any(), any(), any());
+
+        var first = CompletableFuture.runAsync(() -> {
+            try {
+                service.importTasks(job.getUserId(), TaskExportFormat.NDJSON, new ByteArrayInputStream(new byte[0]));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        var busy = assertThrows(ServiceBusyException.class, () ->
+                service.importTasks(UUID.randomUUID(), TaskExportFormat.CSV, new ByteArrayInputStream(new byte[0])));
+        assertEquals(Duration.ofSeconds(7), busy.getRetryAfter());
+        verify(importRepo, times(1)).save(any());   // only the running import was recorded
+
+        release.countDown();
+        first.join();
+        service.importTasks(job.getUserId(), TaskExportFormat.NDJSON, new ByteArrayInputStream(new byte[0]));
+    }
+
+    @Test
+    void refusesALimitThatCouldDrainThePool() {
+        assertThrows(IllegalStateException.class, () ->
+                new TaskImportService(tasks, importRepo, new SimpleMeterRegistry(), 5, 10, Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,43 @@
+package com.smarttask.smarttask_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** Rejections surface as IllegalArgumentException, which GlobalExceptionHandler answers with 400. */
+class TaskSearchCursorTest {
+
+    @Test
+    void roundTripsTheExactRank() {
+        for (float rank : new float[] {0.1f, 0.033333335f, Float.MIN_VALUE, 1e-30f, 0f}) {
+            var cursor = new TaskSearchCursor(rank, UUID.randomUUID());
+            assertEquals(cursor, TaskSearchCursor.decode(cursor.encode()));
+        }
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        String id = UUID.randomUUID().toString();
+        for (String cursor : new String[] {
+                "",
+                "not base64!",
+                encode("0.5"),                         // no separator
+                encode("high|" + id),
+                encode("NaN|" + id),                   // compares false against every rank: an empty page
+                encode("Infinity|" + id),
+                encode("0.5|not-a-uuid"),
+        }) {
+            var e = assertThrows(IllegalArgumentException.class, () -> TaskSearchCursor.decode(cursor), cursor);
+            assertEquals("Invalid cursor", e.getMessage());
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}